@@ -0,0 +1,45 @@
+package com.ldpv2.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DEPLOYMENT_IDEMPOTENCY = "deploymentIdempotency";
+    public static final String SUGGESTIONS = "suggestions";
+    public static final String PERSON_APPLICATIONS = "personApplications";
+
+    /**
+     * In-memory caches; writes made inside a transaction only become visible after it commits
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${deployment.idempotency.cache-ttl:10m}") Duration idempotencyTtl,
+            @Value("${suggest.cache-ttl:60s}") Duration suggestionsTtl,
+            @Value("${person-applications.cache-ttl:10m}") Duration personApplicationsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(DEPLOYMENT_IDEMPOTENCY, Caffeine.newBuilder()
+                .expireAfterWrite(idempotencyTtl)
+                .maximumSize(10_000)
+                .build());
+        cacheManager.registerCustomCache(SUGGESTIONS, Caffeine.newBuilder()
+                .expireAfterWrite(suggestionsTtl)
+                .maximumSize(5_000)
+                .build());
+        cacheManager.registerCustomCache(PERSON_APPLICATIONS, Caffeine.newBuilder()
+                .expireAfterWrite(personApplicationsTtl)
+                .maximumSize(10_000)
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -2,11 +2,19 @@ package com.ldpv2.controller;
 
 import com.ldpv2.domain.enums.ApplicationStatus;
 import com.ldpv2.dto.request.AddContactToApplicationRequest;
+import com.ldpv2.dto.request.BulkApplicationContactsRequest;
+import com.ldpv2.dto.request.BulkUpdateApplicationsRequest;
 import com.ldpv2.dto.request.CreateApplicationRequest;
 import com.ldpv2.dto.request.UpdateApplicationRequest;
 import com.ldpv2.dto.response.ApplicationContactResponse;
+import com.ldpv2.dto.response.ApplicationOverviewResponse;
 import com.ldpv2.dto.response.ApplicationResponse;
+import com.ldpv2.dto.response.BulkUpdateResponse;
+import com.ldpv2.dto.response.SliceResponse;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.service.ApplicationOverviewService;
 import com.ldpv2.service.ApplicationService;
+import com.ldpv2.util.HttpCaching;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,12 +23,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +44,9 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private ApplicationOverviewService applicationOverviewService;
+
     @PostMapping
     @Operation(summary = "Create application", description = "Create a new application")
     public ResponseEntity<ApplicationResponse> create(@Valid @RequestBody CreateApplicationRequest request) {
@@ -57,23 +72,47 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk update applications", 
+               description = "Change the status and/or lifecycle dates of applications selected by ids or by filter " +
+                             "in a single statement; returns the affected count and the rejected ids (Admin only)")
+    public ResponseEntity<BulkUpdateResponse> bulkUpdate(@Valid @RequestBody BulkUpdateApplicationsRequest request) {
+        BulkUpdateResponse response = applicationService.bulkUpdate(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get application", description = "Get application by ID")
     public ResponseEntity<ApplicationResponse> getById(@PathVariable UUID id) {
         ApplicationResponse response = applicationService.findById(id);
-        return ResponseEntity.ok(response);
+        // No Last-Modified: renaming the business unit does not advance the application's updatedAt
+        return HttpCaching.okWithValidators(response,
+                HttpCaching.etag(response.getId(), response.getUpdatedAt(), response.getBusinessUnit().getName()),
+                null);
     }
 
     @GetMapping
-    @Operation(summary = "List applications", description = "Get paginated list of applications")
-    public ResponseEntity<Page<ApplicationResponse>> getAll(
+    @Operation(summary = "List applications", 
+               description = "Get paginated list of applications; q runs a relevance-ranked full-text search over name and description. " +
+                             "fields (e.g. id,name,businessUnit.name) returns only those fields, read with a narrowed select list. " +
+                             "count=false skips the total count and returns {content, page, size, numberOfElements, hasNext}")
+    public ResponseEntity<?> getAll(
             @RequestParam(required = false) ApplicationStatus status,
             @RequestParam(required = false) UUID businessUnitId,
             @RequestParam(required = false) String name,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "true") boolean count,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            WebRequest webRequest) {
+        
+        if (HttpCaching.isNotModified(webRequest, applicationService.getCollectionETag())) {
+            return HttpCaching.notModified();
+        }
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -81,13 +120,46 @@ public class ApplicationController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
+        if (fields != null && !fields.isBlank()) {
+            if (q != null && !q.isBlank()) {
+                throw new BadRequestException("fields cannot be combined with a full-text query");
+            }
+            Slice<Map<String, Object>> response = applicationService.findSparse(
+                    fields, status, businessUnitId, name, pageable, count);
+            return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE)
+                    .body(count ? response : SliceResponse.of(response));
+        }
+        
+        if (!count) {
+            Slice<ApplicationResponse> response;
+            if (q != null && !q.isBlank()) {
+                response = applicationService.searchRankedSlice(q, status, businessUnitId, PageRequest.of(page, size));
+            } else if (status != null || businessUnitId != null || name != null) {
+                response = applicationService.searchSlice(status, businessUnitId, name, pageable);
+            } else {
+                response = applicationService.findAllSlice(pageable);
+            }
+            return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE).body(SliceResponse.of(response));
+        }
+        
         Page<ApplicationResponse> response;
-        if (status != null || businessUnitId != null || name != null) {
+        if (q != null && !q.isBlank()) {
+            // Ranked results are ordered by relevance, not by sortBy
+            response = applicationService.searchRanked(q, status, businessUnitId, PageRequest.of(page, size));
+        } else if (status != null || businessUnitId != null || name != null) {
             response = applicationService.search(status, businessUnitId, name, pageable);
         } else {
             response = applicationService.findAll(pageable);
         }
         
+        return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE).body(response);
+    }
+    
+    @GetMapping("/{id}/overview")
+    @Operation(summary = "Get application overview", 
+               description = "Get the application with its latest version, current deployments, dependencies and contacts in one call")
+    public ResponseEntity<ApplicationOverviewResponse> getOverview(@PathVariable UUID id) {
+        ApplicationOverviewResponse response = applicationOverviewService.getOverview(id);
         return ResponseEntity.ok(response);
     }
     
@@ -124,6 +196,26 @@ public class ApplicationController {
 
     // ========== CONTACTS MANAGEMENT ==========
 
+    @PostMapping("/contacts/bulk-link")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk link contacts", 
+               description = "Link every listed contact to every listed application in a single statement; " +
+                             "existing links are kept. Returns the number of new links and the unknown ids (Admin only)")
+    public ResponseEntity<BulkUpdateResponse> linkContacts(@Valid @RequestBody BulkApplicationContactsRequest request) {
+        BulkUpdateResponse response = applicationService.linkContacts(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/contacts/bulk-unlink")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk unlink contacts", 
+               description = "Remove the links between the listed contacts and applications in a single statement. " +
+                             "Returns the number of removed links and the unknown ids (Admin only)")
+    public ResponseEntity<BulkUpdateResponse> unlinkContacts(@Valid @RequestBody BulkApplicationContactsRequest request) {
+        BulkUpdateResponse response = applicationService.unlinkContacts(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{applicationId}/contacts")
     @Operation(summary = "Get application contacts", description = "Get all contacts for an application")
     public ResponseEntity<List<ApplicationContactResponse>> getContacts(@PathVariable UUID applicationId) {
@@ -4,6 +4,7 @@ import com.ldpv2.dto.request.CreateBusinessUnitRequest;
 import com.ldpv2.dto.request.UpdateBusinessUnitRequest;
 import com.ldpv2.dto.response.BusinessUnitResponse;
 import com.ldpv2.service.BusinessUnitService;
+import com.ldpv2.util.HttpCaching;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -48,7 +50,8 @@ public class BusinessUnitController {
     @Operation(summary = "Get business unit", description = "Get business unit by ID")
     public ResponseEntity<BusinessUnitResponse> getById(@PathVariable UUID id) {
         BusinessUnitResponse response = businessUnitService.findById(id);
-        return ResponseEntity.ok(response);
+        return HttpCaching.okWithValidators(response,
+                HttpCaching.etag(response.getId(), response.getUpdatedAt()), response.getUpdatedAt());
     }
 
     @GetMapping
@@ -57,7 +60,12 @@ public class BusinessUnitController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            WebRequest webRequest) {
+        
+        if (HttpCaching.isNotModified(webRequest, businessUnitService.getCollectionETag())) {
+            return HttpCaching.notModified();
+        }
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -65,7 +73,7 @@ public class BusinessUnitController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<BusinessUnitResponse> response = businessUnitService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE).body(response);
     }
 
     @GetMapping("/search")
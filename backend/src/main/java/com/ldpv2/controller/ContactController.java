@@ -1,6 +1,7 @@
 package com.ldpv2.controller;
 
 import com.ldpv2.dto.request.CreateContactRequest;
+import com.ldpv2.dto.request.ReplaceContactPersonsRequest;
 import com.ldpv2.dto.response.ContactResponse;
 import com.ldpv2.service.ContactService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,11 +9,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -39,9 +43,27 @@ public class ContactController {
     }
 
     @GetMapping
-    @Operation(summary = "List contacts", description = "Get all contacts")
-    public ResponseEntity<List<ContactResponse>> getAll() {
-        List<ContactResponse> response = contactService.findAll();
+    @Operation(summary = "List contacts", 
+               description = "Get paginated list of contacts with their role and persons, optionally filtered " +
+                             "by role and by the name or email of one of their persons; excludeApplicationId leaves out " +
+                             "the contacts already linked to that application")
+    public ResponseEntity<Page<ContactResponse>> getAll(
+            @RequestParam(required = false) UUID contactRoleId,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) UUID excludeApplicationId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        
+        Sort sort = sortDirection.equalsIgnoreCase("desc") 
+            ? Sort.by(sortBy).descending() 
+            : Sort.by(sortBy).ascending();
+        // id breaks ties (e.g. contacts created in the same batch) so pages neither overlap nor skip rows
+        sort = sort.and(Sort.by("id"));
+        
+        Pageable pageable = PageRequest.of(page, size, sort);
+        Page<ContactResponse> response = contactService.findAll(contactRoleId, name, excludeApplicationId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -55,6 +77,16 @@ public class ContactController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{contactId}/persons")
+    @Operation(summary = "Replace contact persons", 
+               description = "Replace the persons of a contact; only the difference with the current persons is written")
+    public ResponseEntity<ContactResponse> replacePersons(
+            @PathVariable UUID contactId,
+            @Valid @RequestBody ReplaceContactPersonsRequest request) {
+        ContactResponse response = contactService.replacePersons(contactId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{contactId}/persons/{personId}")
     @Operation(summary = "Remove person from contact", description = "Remove a person from a contact")
     public ResponseEntity<ContactResponse> removePerson(
@@ -0,0 +1,50 @@
+package com.ldpv2.controller;
+
+import com.ldpv2.dto.response.ContactCoverageGapResponse;
+import com.ldpv2.dto.response.ContactCoverageResponse;
+import com.ldpv2.service.ContactCoverageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/contact-coverage")
+@Tag(name = "Contact Coverage", description = "Applications missing a contact in a given role")
+@SecurityRequirement(name = "bearerAuth")
+public class ContactCoverageController {
+
+    @Autowired
+    private ContactCoverageService contactCoverageService;
+
+    @GetMapping
+    @Operation(summary = "Get contact coverage", 
+               description = "For every contact role, the number of applications with and without a contact in that role")
+    public ResponseEntity<List<ContactCoverageResponse>> getCoverage(
+            @RequestParam(required = false) UUID businessUnitId) {
+        List<ContactCoverageResponse> response = contactCoverageService.getCoverage(businessUnitId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/gaps")
+    @Operation(summary = "List contact coverage gaps", 
+               description = "Paginated list of applications with no contact in the given role, by application name")
+    public ResponseEntity<Page<ContactCoverageGapResponse>> getGaps(
+            @RequestParam UUID contactRoleId,
+            @RequestParam(required = false) UUID businessUnitId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ContactCoverageGapResponse> response = contactCoverageService.findGaps(contactRoleId, businessUnitId, pageable);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,9 +1,21 @@
 package com.ldpv2.controller;
 
+import com.ldpv2.domain.enums.ExportFormat;
+import com.ldpv2.dto.request.RecordDeploymentBatchRequest;
 import com.ldpv2.dto.request.RecordDeploymentRequest;
 import com.ldpv2.dto.response.CurrentDeploymentStateResponse;
+import com.ldpv2.dto.response.CursorPageResponse;
+import com.ldpv2.dto.response.DeploymentBatchResponse;
+import com.ldpv2.dto.response.DeploymentDriftResponse;
 import com.ldpv2.dto.response.DeploymentResponse;
+import com.ldpv2.dto.response.DeploymentStatsResponse;
+import com.ldpv2.dto.response.MaintenanceResultResponse;
+import com.ldpv2.dto.response.SliceResponse;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.service.DeploymentPartitionService;
 import com.ldpv2.service.DeploymentService;
+import com.ldpv2.service.DeploymentStatsService;
+import com.ldpv2.service.DeploymentStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,14 +24,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -31,14 +51,34 @@ public class DeploymentController {
     @Autowired
     private DeploymentService deploymentService;
 
+    @Autowired
+    private DeploymentStatsService deploymentStatsService;
+
+    @Autowired
+    private DeploymentPartitionService deploymentPartitionService;
+
+    @Autowired
+    private DeploymentStreamService deploymentStreamService;
+
     @PostMapping
-    @Operation(summary = "Record deployment", description = "Record a new deployment")
+    @Operation(summary = "Record deployment", 
+               description = "Record a new deployment; retries with the same Idempotency-Key return the original deployment")
     public ResponseEntity<DeploymentResponse> recordDeployment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody RecordDeploymentRequest request) {
-        DeploymentResponse response = deploymentService.recordDeployment(request);
+        DeploymentResponse response = deploymentService.recordDeployment(request, idempotencyKey);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Record deployments in batch", 
+               description = "Record many deployments at once, reporting errors and already recorded idempotency keys per item")
+    public ResponseEntity<DeploymentBatchResponse> recordDeployments(
+            @Valid @RequestBody RecordDeploymentBatchRequest request) {
+        DeploymentBatchResponse response = deploymentService.recordDeployments(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get deployment", description = "Get deployment by ID")
     public ResponseEntity<DeploymentResponse> getById(@PathVariable UUID id) {
@@ -47,8 +87,11 @@ public class DeploymentController {
     }
 
     @GetMapping
-    @Operation(summary = "List deployments", description = "Get paginated list of deployments with optional filters")
-    public ResponseEntity<Page<DeploymentResponse>> getAll(
+    @Operation(summary = "List deployments", 
+               description = "Get paginated list of deployments with optional filters. " +
+                             "fields (e.g. id,deploymentDate,environment.name) returns only those fields, read with a narrowed select list. " +
+                             "count=false skips the total count and returns {content, page, size, numberOfElements, hasNext}")
+    public ResponseEntity<?> getAll(
             @RequestParam(required = false) UUID applicationId,
             @RequestParam(required = false) UUID environmentId,
             @RequestParam(required = false) UUID versionId,
@@ -57,7 +100,9 @@ public class DeploymentController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "deploymentDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "true") boolean count) {
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -65,6 +110,22 @@ public class DeploymentController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
+        if (fields != null && !fields.isBlank()) {
+            Slice<Map<String, Object>> response = deploymentService.findSparse(
+                    fields, applicationId, environmentId, versionId, dateFrom, dateTo, pageable, count);
+            return ResponseEntity.ok(count ? response : SliceResponse.of(response));
+        }
+        
+        if (!count) {
+            Slice<DeploymentResponse> response;
+            if (applicationId != null || environmentId != null || versionId != null || dateFrom != null || dateTo != null) {
+                response = deploymentService.searchSlice(applicationId, environmentId, versionId, dateFrom, dateTo, pageable);
+            } else {
+                response = deploymentService.findAllSlice(pageable);
+            }
+            return ResponseEntity.ok(SliceResponse.of(response));
+        }
+        
         Page<DeploymentResponse> response;
         if (applicationId != null || environmentId != null || versionId != null || dateFrom != null || dateTo != null) {
             response = deploymentService.search(applicationId, environmentId, versionId, dateFrom, dateTo, pageable);
@@ -75,6 +136,60 @@ public class DeploymentController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/cursor")
+    @Operation(summary = "List deployments by cursor", 
+               description = "Keyset-paginated deployment history with optional filters, newest first")
+    public ResponseEntity<CursorPageResponse<DeploymentResponse>> getAllByCursor(
+            @RequestParam(required = false) UUID applicationId,
+            @RequestParam(required = false) UUID environmentId,
+            @RequestParam(required = false) UUID versionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<DeploymentResponse> response = deploymentService.searchByCursor(
+                applicationId, environmentId, versionId, dateFrom, dateTo, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export deployments", 
+               description = "Stream the filtered deployment history as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) UUID applicationId,
+            @RequestParam(required = false) UUID environmentId,
+            @RequestParam(required = false) UUID versionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(defaultValue = "csv") String format) {
+        
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+        
+        StreamingResponseBody body = outputStream -> deploymentService.exportDeployments(
+                applicationId, environmentId, versionId, dateFrom, dateTo, exportFormat, outputStream);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, 
+                        "attachment; filename=\"deployments." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream deployments", 
+               description = "Server-Sent Events stream of newly recorded deployments, optionally filtered")
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(required = false) UUID applicationId,
+            @RequestParam(required = false) UUID environmentId) {
+        SseEmitter emitter = deploymentStreamService.subscribe(applicationId, environmentId);
+        return ResponseEntity.ok(emitter);
+    }
+    
     @GetMapping("/current")
     @Operation(summary = "Get current state", description = "Get current deployment state across environments")
     public ResponseEntity<List<CurrentDeploymentStateResponse>> getCurrentState(
@@ -84,6 +199,66 @@ public class DeploymentController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/state-at")
+    @Operation(summary = "Get state at a point in time", 
+               description = "Get the version of every application deployed in an environment at the given timestamp")
+    public ResponseEntity<List<CurrentDeploymentStateResponse>> getStateAt(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp,
+            @RequestParam UUID environmentId) {
+        List<CurrentDeploymentStateResponse> response = deploymentService.getStateAt(timestamp, environmentId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/drift")
+    @Operation(summary = "Get environment drift", 
+               description = "Compare deployed versions per application between a source and a target environment")
+    public ResponseEntity<DeploymentDriftResponse> getDrift(
+            @RequestParam UUID source,
+            @RequestParam UUID target,
+            @RequestParam(defaultValue = "false") boolean includeEqual) {
+        DeploymentDriftResponse response = deploymentService.getDrift(source, target, includeEqual);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/current/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild current state", description = "Rebuild current deployment state from history (Admin only)")
+    public ResponseEntity<MaintenanceResultResponse> rebuildCurrentState() {
+        MaintenanceResultResponse response = deploymentService.rebuildCurrentState();
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/partitions/maintain")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Maintain partitions", description = "Create upcoming monthly deployment partitions and detach expired ones (Admin only)")
+    public ResponseEntity<MaintenanceResultResponse> maintainPartitions() {
+        MaintenanceResultResponse response = deploymentPartitionService.maintainPartitions();
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Get deployment statistics", 
+               description = "Dashboard KPIs and per-environment daily trend, answered from daily rollups")
+    public ResponseEntity<DeploymentStatsResponse> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID applicationId,
+            @RequestParam(required = false) UUID environmentId) {
+        DeploymentStatsResponse response = deploymentStatsService.getStats(from, to, applicationId, environmentId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild deployment statistics", 
+               description = "Recompute daily rollups for a date range from history (Admin only)")
+    public ResponseEntity<MaintenanceResultResponse> rebuildStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        MaintenanceResultResponse response = deploymentStatsService.rebuildRollups(from, to);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/by-application/{applicationId}")
     @Operation(summary = "Get deployments by application", description = "Get deployment history for an application")
     public ResponseEntity<Page<DeploymentResponse>> getByApplication(
@@ -107,4 +282,28 @@ public class DeploymentController {
         Page<DeploymentResponse> response = deploymentService.findByEnvironment(environmentId, pageable);
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/by-application/{applicationId}/cursor")
+    @Operation(summary = "Get deployments by application by cursor", 
+               description = "Keyset-paginated deployment history for an application")
+    public ResponseEntity<CursorPageResponse<DeploymentResponse>> getByApplicationByCursor(
+            @PathVariable UUID applicationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<DeploymentResponse> response = 
+                deploymentService.findByApplicationByCursor(applicationId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/by-environment/{environmentId}/cursor")
+    @Operation(summary = "Get deployments by environment by cursor", 
+               description = "Keyset-paginated deployment history for an environment")
+    public ResponseEntity<CursorPageResponse<DeploymentResponse>> getByEnvironmentByCursor(
+            @PathVariable UUID environmentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<DeploymentResponse> response = 
+                deploymentService.findByEnvironmentByCursor(environmentId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -3,7 +3,9 @@ package com.ldpv2.controller;
 import com.ldpv2.dto.request.CreateEnvironmentRequest;
 import com.ldpv2.dto.request.UpdateEnvironmentRequest;
 import com.ldpv2.dto.response.EnvironmentResponse;
+import com.ldpv2.dto.response.SliceResponse;
 import com.ldpv2.service.EnvironmentService;
+import com.ldpv2.util.HttpCaching;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,10 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -48,24 +52,36 @@ public class EnvironmentController {
     @Operation(summary = "Get environment", description = "Get environment by ID")
     public ResponseEntity<EnvironmentResponse> getById(@PathVariable UUID id) {
         EnvironmentResponse response = environmentService.findById(id);
-        return ResponseEntity.ok(response);
+        return HttpCaching.okWithValidators(response,
+                HttpCaching.etag(response.getId(), response.getUpdatedAt()), response.getUpdatedAt());
     }
 
     @GetMapping
-    @Operation(summary = "List environments", description = "Get paginated list of environments")
-    public ResponseEntity<Page<EnvironmentResponse>> getAll(
+    @Operation(summary = "List environments", description = "Get paginated list of environments. " +
+                             "count=false skips the total count and returns {content, page, size, numberOfElements, hasNext}")
+    public ResponseEntity<?> getAll(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest webRequest) {
+        
+        if (HttpCaching.isNotModified(webRequest, environmentService.getCollectionETag())) {
+            return HttpCaching.notModified();
+        }
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
             : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
+        if (!count) {
+            Slice<EnvironmentResponse> response = environmentService.findAllSlice(pageable);
+            return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE).body(SliceResponse.of(response));
+        }
         Page<EnvironmentResponse> response = environmentService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(HttpCaching.REVALIDATE).body(response);
     }
 
     @GetMapping("/search")
@@ -3,6 +3,7 @@ package com.ldpv2.controller;
 import com.ldpv2.dto.request.CreateExternalDependencyRequest;
 import com.ldpv2.dto.request.UpdateExternalDependencyRequest;
 import com.ldpv2.dto.response.ExternalDependencyResponse;
+import com.ldpv2.dto.response.SliceResponse;
 import com.ldpv2.service.ExternalDependencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,12 +13,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -55,15 +58,20 @@ public class ExternalDependencyController {
     }
 
     @GetMapping
-    @Operation(summary = "List dependencies", description = "Get all dependencies with filters")
-    public ResponseEntity<Page<ExternalDependencyResponse>> getAll(
+    @Operation(summary = "List dependencies", 
+               description = "Get all dependencies with filters. " +
+                             "fields (e.g. id,name,application.name) returns only those fields, read with a narrowed select list. " +
+                             "count=false skips the total count and returns {content, page, size, numberOfElements, hasNext}")
+    public ResponseEntity<?> getAll(
             @RequestParam(required = false) UUID applicationId,
             @RequestParam(required = false) UUID dependencyTypeId,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "true") boolean count) {
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -71,6 +79,22 @@ public class ExternalDependencyController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
+        if (fields != null && !fields.isBlank()) {
+            Slice<Map<String, Object>> response = externalDependencyService.findSparse(
+                    fields, applicationId, dependencyTypeId, status, pageable, count);
+            return ResponseEntity.ok(count ? response : SliceResponse.of(response));
+        }
+        
+        if (!count) {
+            Slice<ExternalDependencyResponse> response;
+            if (applicationId != null || dependencyTypeId != null || status != null) {
+                response = externalDependencyService.searchSlice(applicationId, dependencyTypeId, status, pageable);
+            } else {
+                response = externalDependencyService.findAllSlice(pageable);
+            }
+            return ResponseEntity.ok(SliceResponse.of(response));
+        }
+        
         Page<ExternalDependencyResponse> response;
         if (applicationId != null || dependencyTypeId != null || status != null) {
             response = externalDependencyService.search(applicationId, dependencyTypeId, status, pageable);
@@ -0,0 +1,72 @@
+package com.ldpv2.controller;
+
+import com.ldpv2.dto.response.ImportReportResponse;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.service.CatalogImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/import")
+@Tag(name = "Import", description = "Bulk CSV import of catalog entities")
+@SecurityRequirement(name = "bearerAuth")
+public class ImportController {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/business-units", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import business units", 
+               description = "Import business units from a CSV file with columns name, description (Admin only)")
+    public ResponseEntity<ImportReportResponse> importBusinessUnits(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(runImport(file, catalogImportService::importBusinessUnits));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/persons", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import persons", 
+               description = "Import persons from a CSV file with columns first_name, last_name, email, phone (Admin only)")
+    public ResponseEntity<ImportReportResponse> importPersons(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(runImport(file, catalogImportService::importPersons));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/environments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import environments", 
+               description = "Import environments from a CSV file with columns name, description, is_production, criticality_level (Admin only)")
+    public ResponseEntity<ImportReportResponse> importEnvironments(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(runImport(file, catalogImportService::importEnvironments));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/applications", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import applications", 
+               description = "Import applications from a CSV file with columns name, description, status, business_unit " +
+                             "(name), end_of_life_date, end_of_support_date (Admin only)")
+    public ResponseEntity<ImportReportResponse> importApplications(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(runImport(file, catalogImportService::importApplications));
+    }
+
+    private ImportReportResponse runImport(MultipartFile file, Function<InputStream, ImportReportResponse> importer) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        try (InputStream input = file.getInputStream()) {
+            return importer.apply(input);
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read uploaded file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ldpv2.controller;
+
+import com.ldpv2.domain.enums.LifecycleRiskType;
+import com.ldpv2.dto.response.LifecycleRiskResponse;
+import com.ldpv2.dto.response.MaintenanceResultResponse;
+import com.ldpv2.service.LifecycleRiskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/lifecycle")
+@Tag(name = "Lifecycle", description = "End of life and end of support risk reporting")
+@SecurityRequirement(name = "bearerAuth")
+public class LifecycleController {
+
+    @Autowired
+    private LifecycleRiskService lifecycleRiskService;
+
+    @GetMapping("/risks")
+    @Operation(summary = "List lifecycle risks", 
+               description = "Applications whose deployed version is past end of life or which are past end of support, " +
+                             "longest overdue first; answered from the periodically refreshed risk table")
+    public ResponseEntity<Page<LifecycleRiskResponse>> getRisks(
+            @RequestParam(required = false) Boolean production,
+            @RequestParam(required = false) LifecycleRiskType riskType,
+            @RequestParam(required = false) UUID environmentId,
+            @RequestParam(required = false) UUID applicationId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<LifecycleRiskResponse> response = lifecycleRiskService.findRisks(
+                production, riskType, environmentId, applicationId, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/risks/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Refresh lifecycle risks", 
+               description = "Recompute the lifecycle risk table from the current deployment state (Admin only)")
+    public ResponseEntity<MaintenanceResultResponse> refreshRisks() {
+        MaintenanceResultResponse response = lifecycleRiskService.refreshRisks();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -2,7 +2,9 @@ package com.ldpv2.controller;
 
 import com.ldpv2.dto.request.CreatePersonRequest;
 import com.ldpv2.dto.request.UpdatePersonRequest;
+import com.ldpv2.dto.response.PersonApplicationResponse;
 import com.ldpv2.dto.response.PersonResponse;
+import com.ldpv2.dto.response.SliceResponse;
 import com.ldpv2.service.PersonService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,11 +14,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -51,14 +55,24 @@ public class PersonController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/applications")
+    @Operation(summary = "Get person applications", 
+               description = "Applications the person is a contact for, with the contact role they hold")
+    public ResponseEntity<List<PersonApplicationResponse>> getApplications(@PathVariable UUID id) {
+        List<PersonApplicationResponse> response = personService.findApplications(id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
-    @Operation(summary = "List persons", description = "Get paginated list of persons")
-    public ResponseEntity<Page<PersonResponse>> getAll(
+    @Operation(summary = "List persons", description = "Get paginated list of persons. " +
+                             "count=false skips the total count and returns {content, page, size, numberOfElements, hasNext}")
+    public ResponseEntity<?> getAll(
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "lastName") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "true") boolean count) {
         
         Sort sort = sortDirection.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -66,6 +80,13 @@ public class PersonController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
+        if (!count) {
+            Slice<PersonResponse> response = (name != null && !name.trim().isEmpty())
+                ? personService.searchSlice(name, pageable)
+                : personService.findAllSlice(pageable);
+            return ResponseEntity.ok(SliceResponse.of(response));
+        }
+        
         Page<PersonResponse> response = (name != null && !name.trim().isEmpty())
             ? personService.search(name, pageable)
             : personService.findAll(pageable);
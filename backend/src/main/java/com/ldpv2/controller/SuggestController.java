@@ -0,0 +1,34 @@
+package com.ldpv2.controller;
+
+import com.ldpv2.domain.enums.SuggestionType;
+import com.ldpv2.dto.response.SuggestResponse;
+import com.ldpv2.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/suggest")
+@Tag(name = "Suggestions", description = "Typeahead endpoints for pickers")
+@SecurityRequirement(name = "bearerAuth")
+public class SuggestController {
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @GetMapping
+    @Operation(summary = "Suggest", 
+               description = "Get the top matching applications, persons and business units for a typeahead query")
+    public ResponseEntity<SuggestResponse> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Set<SuggestionType> types) {
+        SuggestResponse response = suggestService.suggest(q, limit, types);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ldpv2.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Read model holding the latest deployment per application/environment pair.
+ * Maintained by DeploymentService whenever deployments are recorded.
+ */
+@Data
+@Entity
+@Table(name = "deployment_current")
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentCurrent implements Serializable {
+
+    @EmbeddedId
+    private DeploymentCurrentId id = new DeploymentCurrentId();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("applicationId")
+    @JoinColumn(name = "application_id")
+    private Application application;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("environmentId")
+    @JoinColumn(name = "environment_id")
+    private Environment environment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deployment_id", nullable = false)
+    private Deployment deployment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "version_id", nullable = false)
+    private Version version;
+
+    @Column(name = "deployment_date", nullable = false)
+    private LocalDateTime deploymentDate;
+
+    @Column(name = "deployed_by", length = 255)
+    private String deployedBy;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeploymentCurrentId implements Serializable {
+        @Column(name = "application_id")
+        private java.util.UUID applicationId;
+
+        @Column(name = "environment_id")
+        private java.util.UUID environmentId;
+    }
+}
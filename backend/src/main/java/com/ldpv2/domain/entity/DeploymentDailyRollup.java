@@ -0,0 +1,49 @@
+package com.ldpv2.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated number of deployments per day, application and environment.
+ * Maintained by DeploymentService whenever deployments are recorded.
+ */
+@Data
+@Entity
+@Table(name = "deployment_daily_rollup")
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentDailyRollup implements Serializable {
+
+    @EmbeddedId
+    private DeploymentDailyRollupId id = new DeploymentDailyRollupId();
+
+    @Column(name = "is_production", nullable = false)
+    private boolean isProduction;
+
+    @Column(name = "deployment_count", nullable = false)
+    private int deploymentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeploymentDailyRollupId implements Serializable {
+        @Column(name = "deployment_day")
+        private LocalDate deploymentDay;
+
+        @Column(name = "application_id")
+        private java.util.UUID applicationId;
+
+        @Column(name = "environment_id")
+        private java.util.UUID environmentId;
+    }
+}
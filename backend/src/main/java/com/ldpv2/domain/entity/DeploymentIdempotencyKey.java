@@ -0,0 +1,31 @@
+package com.ldpv2.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Client supplied key of a recorded deployment, so retried requests are not recorded twice.
+ * The deployment id is empty while the request that claimed the key is still in progress.
+ */
+@Data
+@Entity
+@Table(name = "deployment_idempotency_key")
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    @Column(name = "deployment_id")
+    private UUID deploymentId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
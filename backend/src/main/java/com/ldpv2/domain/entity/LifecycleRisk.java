@@ -0,0 +1,56 @@
+package com.ldpv2.domain.entity;
+
+import com.ldpv2.domain.enums.LifecycleRiskType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Precomputed lifecycle risk of an application in an environment.
+ * Rebuilt from deployment_current by LifecycleRiskService.
+ */
+@Data
+@Entity
+@Table(name = "lifecycle_risk")
+@NoArgsConstructor
+@AllArgsConstructor
+public class LifecycleRisk implements Serializable {
+
+    @EmbeddedId
+    private LifecycleRiskId id = new LifecycleRiskId();
+
+    @Column(name = "version_id", nullable = false)
+    private UUID versionId;
+
+    @Column(name = "is_production", nullable = false)
+    private boolean isProduction;
+
+    /** The end of life or end of support date that has passed */
+    @Column(name = "lifecycle_date", nullable = false)
+    private LocalDate lifecycleDate;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LifecycleRiskId implements Serializable {
+        @Column(name = "application_id")
+        private UUID applicationId;
+
+        @Column(name = "environment_id")
+        private UUID environmentId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "risk_type", length = 50)
+        private LifecycleRiskType riskType;
+    }
+}
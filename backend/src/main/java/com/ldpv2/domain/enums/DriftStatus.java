@@ -0,0 +1,16 @@
+package com.ldpv2.domain.enums;
+
+/**
+ * How the version in the source environment relates to the one in the target environment
+ */
+public enum DriftStatus {
+    /** Source runs a newer version than target */
+    AHEAD,
+    /** Source runs an older version than target */
+    BEHIND,
+    /** Deployed in target only */
+    MISSING_IN_SOURCE,
+    /** Deployed in source only */
+    MISSING_IN_TARGET,
+    EQUAL
+}
@@ -0,0 +1,22 @@
+package com.ldpv2.domain.enums;
+
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String contentType;
+    private final String fileExtension;
+    
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
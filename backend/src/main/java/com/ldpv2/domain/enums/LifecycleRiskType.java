@@ -0,0 +1,11 @@
+package com.ldpv2.domain.enums;
+
+/**
+ * Why a deployed application/version pair is considered at risk
+ */
+public enum LifecycleRiskType {
+    /** The deployed version is past its end of life date */
+    VERSION_END_OF_LIFE,
+    /** The application is past its end of support date */
+    APPLICATION_END_OF_SUPPORT
+}
@@ -0,0 +1,7 @@
+package com.ldpv2.domain.enums;
+
+public enum SuggestionType {
+    APPLICATION,
+    PERSON,
+    BUSINESS_UNIT
+}
@@ -0,0 +1,27 @@
+package com.ldpv2.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Every listed contact is linked to, or unlinked from, every listed application
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationContactsRequest {
+
+    @NotEmpty(message = "At least one application is required")
+    @Size(max = 5000, message = "A bulk assignment must not exceed 5000 applications")
+    private List<UUID> applicationIds;
+
+    @NotEmpty(message = "At least one contact is required")
+    @Size(max = 100, message = "A bulk assignment must not exceed 100 contacts")
+    private List<UUID> contactIds;
+}
@@ -0,0 +1,34 @@
+package com.ldpv2.dto.request;
+
+import com.ldpv2.domain.enums.ApplicationStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selects applications by ids and/or by filter, then applies the non-null changes to all of them.
+ * At least one selector and one change are required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateApplicationsRequest {
+
+    @Size(max = 5000, message = "A bulk update must not exceed 5000 ids")
+    private List<UUID> ids;
+
+    private ApplicationStatus filterStatus;
+
+    private UUID filterBusinessUnitId;
+
+    private ApplicationStatus status;
+
+    private LocalDate endOfLifeDate;
+
+    private LocalDate endOfSupportDate;
+}
@@ -0,0 +1,19 @@
+package com.ldpv2.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordDeploymentBatchRequest {
+
+    @NotEmpty(message = "At least one deployment is required")
+    @Size(max = 5000, message = "A batch must not exceed 5000 deployments")
+    private List<RecordDeploymentRequest> deployments;
+}
@@ -1,6 +1,7 @@
 package com.ldpv2.dto.request;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -28,4 +29,10 @@ public class RecordDeploymentRequest {
     private String deployedBy;
     
     private String notes;
+    
+    /**
+     * Optional client key making retries safe; the Idempotency-Key header takes precedence
+     */
+    @Size(max = 255, message = "Idempotency key must not exceed 255 characters")
+    private String idempotencyKey;
 }
@@ -0,0 +1,20 @@
+package com.ldpv2.dto.response;
+
+import com.ldpv2.domain.enums.DriftStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDriftResponse {
+    private ApplicationSummaryResponse application;
+    private DriftStatus status;
+    private VersionSummaryResponse sourceVersion;
+    private LocalDateTime sourceDeploymentDate;
+    private VersionSummaryResponse targetVersion;
+    private LocalDateTime targetDeploymentDate;
+}
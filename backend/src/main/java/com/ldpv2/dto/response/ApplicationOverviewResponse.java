@@ -0,0 +1,19 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationOverviewResponse {
+    private ApplicationResponse application;
+    private VersionResponse latestVersion;
+    private List<CurrentDeploymentStateResponse> currentDeployments;
+    private List<ExternalDependencyResponse> dependencies;
+    private long totalDependencies;
+    private List<ApplicationContactResponse> contacts;
+}
@@ -0,0 +1,22 @@
+package com.ldpv2.dto.response;
+
+import com.ldpv2.domain.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * An application with no contact in the requested role
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactCoverageGapResponse {
+    private UUID applicationId;
+    private String applicationName;
+    private ApplicationStatus status;
+    private UUID businessUnitId;
+    private String businessUnitName;
+}
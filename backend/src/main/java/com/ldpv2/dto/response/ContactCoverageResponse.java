@@ -0,0 +1,18 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactCoverageResponse {
+    private UUID roleId;
+    private String roleName;
+    private long totalApplications;
+    private long coveredApplications;
+    private long missingApplications;
+}
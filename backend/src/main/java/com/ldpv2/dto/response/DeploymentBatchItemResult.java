@@ -0,0 +1,17 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentBatchItemResult {
+    private int index;
+    private UUID deploymentId;
+    private String status;
+    private String message;
+}
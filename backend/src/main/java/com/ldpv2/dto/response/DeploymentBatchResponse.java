@@ -0,0 +1,18 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentBatchResponse {
+    private int total;
+    private int recorded;
+    private int failed;
+    private int duplicates;
+    private List<DeploymentBatchItemResult> items;
+}
@@ -0,0 +1,21 @@
+package com.ldpv2.dto.response;
+
+import com.ldpv2.domain.enums.DriftStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentDriftResponse {
+    private EnvironmentSummaryResponse source;
+    private EnvironmentSummaryResponse target;
+    private Map<DriftStatus, Long> summary;
+    private List<ApplicationDriftResponse> applications;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,21 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentStatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long totalDeployments;
+    private long productionDeployments;
+    private long deploymentsThisWeek;
+    private long productionDeploymentsThisMonth;
+    private List<DeploymentTrendPointResponse> trend;
+}
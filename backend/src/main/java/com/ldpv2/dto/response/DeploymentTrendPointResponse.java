@@ -0,0 +1,18 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentTrendPointResponse {
+    private LocalDate day;
+    private UUID environmentId;
+    private String environmentName;
+    private long deployments;
+}
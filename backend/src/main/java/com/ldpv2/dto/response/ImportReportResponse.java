@@ -0,0 +1,22 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import; rows are only listed when they were not imported
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportResponse {
+    private String entity;
+    private int totalRows;
+    private int imported;
+    private int skipped;
+    private int failed;
+    private List<ImportRowResult> rows;
+}
@@ -0,0 +1,26 @@
+package com.ldpv2.dto.response;
+
+import com.ldpv2.domain.enums.LifecycleRiskType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LifecycleRiskResponse {
+    private UUID applicationId;
+    private String applicationName;
+    private UUID environmentId;
+    private String environmentName;
+    private boolean production;
+    private UUID versionId;
+    private String versionIdentifier;
+    private LifecycleRiskType riskType;
+    private LocalDate lifecycleDate;
+    private LocalDateTime computedAt;
+}
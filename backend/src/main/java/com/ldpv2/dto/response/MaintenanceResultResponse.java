@@ -0,0 +1,23 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceResultResponse {
+    private String operation;
+    private int affectedRows;
+    private LocalDateTime completedAt;
+    /** Steps that could not be completed; empty when everything succeeded */
+    private List<String> failures = List.of();
+
+    public MaintenanceResultResponse(String operation, int affectedRows, LocalDateTime completedAt) {
+        this(operation, affectedRows, completedAt, List.of());
+    }
+}
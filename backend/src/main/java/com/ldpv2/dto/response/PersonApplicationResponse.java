@@ -0,0 +1,21 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * An application a person is a contact for, with the role they hold through that contact
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonApplicationResponse {
+    private UUID applicationId;
+    private String applicationName;
+    private UUID contactId;
+    private String roleName;
+    private boolean isPrimary;
+}
@@ -0,0 +1,28 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of a list read without a count query (count=false): there is no total,
+ * only whether a next page exists
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                slice.getNumberOfElements(), slice.hasNext());
+    }
+}
@@ -0,0 +1,17 @@
+package com.ldpv2.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestResponse {
+    private String query;
+    private List<SuggestionResponse> applications;
+    private List<SuggestionResponse> persons;
+    private List<SuggestionResponse> businessUnits;
+}
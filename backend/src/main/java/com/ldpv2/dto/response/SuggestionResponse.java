@@ -0,0 +1,18 @@
+package com.ldpv2.dto.response;
+
+import com.ldpv2.domain.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    private SuggestionType type;
+    private UUID id;
+    private String label;
+    private String detail;
+}
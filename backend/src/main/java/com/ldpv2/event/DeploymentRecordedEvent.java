@@ -0,0 +1,16 @@
+package com.ldpv2.event;
+
+import com.ldpv2.dto.response.DeploymentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published inside the recording transaction; listeners act on it after commit
+ */
+@Getter
+@AllArgsConstructor
+public class DeploymentRecordedEvent {
+    private final List<DeploymentResponse> deployments;
+}
@@ -0,0 +1,17 @@
+package com.ldpv2.exception;
+
+/**
+ * The server is temporarily out of capacity; answered with 503 and a Retry-After header
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
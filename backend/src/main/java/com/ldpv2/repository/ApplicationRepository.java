@@ -2,30 +2,142 @@ package com.ldpv2.repository;
 
 import com.ldpv2.domain.entity.Application;
 import com.ldpv2.domain.enums.ApplicationStatus;
+import com.ldpv2.dto.response.ContactCoverageGapResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, UUID> {
+public interface ApplicationRepository extends JpaRepository<Application, UUID>, ApplicationRepositoryCustom {
+    
+    // Null parameters are cast so PostgreSQL can infer their type in the IS NULL checks
+    String SEARCH_QUERY = "SELECT a FROM Application a WHERE " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(CAST(:businessUnitId AS java.util.UUID) IS NULL OR a.businessUnit.id = :businessUnitId) AND " +
+           "(CAST(:name AS String) IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', CAST(:name AS String), '%')) ESCAPE '\\')";
+    
+    // The null UUID parameter is cast so PostgreSQL can infer its type in the IS NULL check
+    String MISSING_CONTACT_ROLE =
+           "(CAST(:businessUnitId AS java.util.UUID) IS NULL OR a.businessUnit.id = :businessUnitId) AND " +
+           "NOT EXISTS (SELECT 1 FROM ApplicationContact ac " +
+           "WHERE ac.application = a AND ac.contact.contactRole.id = :contactRoleId)";
+    
+    @Override
+    @EntityGraph(attributePaths = {"businessUnit"})
+    Page<Application> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
     Page<Application> findByStatus(ApplicationStatus status, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
     Page<Application> findByBusinessUnitId(UUID businessUnitId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
     Page<Application> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
     Page<Application> findByStatusAndBusinessUnitId(ApplicationStatus status, UUID businessUnitId, Pageable pageable);
     
-    @Query("SELECT a FROM Application a WHERE " +
-           "(:status IS NULL OR a.status = :status) AND " +
-           "(:businessUnitId IS NULL OR a.businessUnit.id = :businessUnitId) AND " +
-           "(:name IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\')")
+    @EntityGraph(attributePaths = {"businessUnit"})
+    @Query(SEARCH_QUERY)
     Page<Application> search(
         @Param("status") ApplicationStatus status,
         @Param("businessUnitId") UUID businessUnitId,
         @Param("name") String name,
         Pageable pageable
     );
+    
+    // Slice variants fetch one extra row to know whether a next page exists, without a count query
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
+    Slice<Application> findAllBy(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
+    @Query(SEARCH_QUERY)
+    Slice<Application> searchSlice(
+        @Param("status") ApplicationStatus status,
+        @Param("businessUnitId") UUID businessUnitId,
+        @Param("name") String name,
+        Pageable pageable
+    );
+    
+    /**
+     * Ids of one page of applications matching a full-text query, most relevant first.
+     * Served by the GIN index on search_vector.
+     */
+    @Query(value = "SELECT a.id FROM application a, websearch_to_tsquery('simple', :query) q " +
+                   "WHERE a.search_vector @@ q " +
+                   "AND (CAST(:status AS VARCHAR) IS NULL OR a.status = CAST(:status AS VARCHAR)) " +
+                   "AND (CAST(:businessUnitId AS UUID) IS NULL OR a.business_unit_id = CAST(:businessUnitId AS UUID)) " +
+                   "ORDER BY ts_rank(a.search_vector, q) DESC, a.name, a.id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<UUID> searchRankedIds(
+        @Param("query") String query,
+        @Param("status") String status,
+        @Param("businessUnitId") String businessUnitId,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
+    
+    @Query(value = "SELECT COUNT(*) FROM application a " +
+                   "WHERE a.search_vector @@ websearch_to_tsquery('simple', :query) " +
+                   "AND (CAST(:status AS VARCHAR) IS NULL OR a.status = CAST(:status AS VARCHAR)) " +
+                   "AND (CAST(:businessUnitId AS UUID) IS NULL OR a.business_unit_id = CAST(:businessUnitId AS UUID))",
+           nativeQuery = true)
+    long countRanked(
+        @Param("query") String query,
+        @Param("status") String status,
+        @Param("businessUnitId") String businessUnitId
+    );
+    
+    @EntityGraph(attributePaths = {"businessUnit"})
+    List<Application> findByIdIn(Collection<UUID> ids);
+    
+    /**
+     * Typeahead matches on the name, prefix matches first.
+     * Served by the trigram index on lower(name).
+     */
+    @Query(value = "SELECT a.id AS id, a.name AS label, bu.name AS detail FROM application a " +
+                   "JOIN business_unit bu ON bu.id = a.business_unit_id " +
+                   "WHERE lower(a.name) LIKE :pattern ESCAPE '\\' " +
+                   "ORDER BY lower(a.name) LIKE :prefix ESCAPE '\\' DESC, similarity(lower(a.name), :term) DESC, a.name " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionProjection> suggest(
+        @Param("pattern") String pattern,
+        @Param("prefix") String prefix,
+        @Param("term") String term,
+        @Param("limit") int limit
+    );
+    
+    @Query("SELECT a.id FROM Application a WHERE a.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Applications with no contact in the given role, as an anti-join
+     */
+    @Query(value = "SELECT new com.ldpv2.dto.response.ContactCoverageGapResponse(" +
+                   "a.id, a.name, a.status, bu.id, bu.name) " +
+                   "FROM Application a JOIN a.businessUnit bu WHERE " + MISSING_CONTACT_ROLE +
+                   " ORDER BY a.name, a.id",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE " + MISSING_CONTACT_ROLE)
+    Page<ContactCoverageGapResponse> findMissingContactRole(
+        @Param("contactRoleId") UUID contactRoleId,
+        @Param("businessUnitId") UUID businessUnitId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS lastModified FROM Application a")
+    CollectionVersionProjection findCollectionVersion();
 }
@@ -0,0 +1,32 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.dto.request.BulkUpdateApplicationsRequest;
+import com.ldpv2.dto.response.BulkUpdateResponse;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JDBC-backed operations on applications that bypass the persistence context
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Apply the requested changes to every selected application in a single UPDATE statement.
+     * Applications whose resulting end of support date would fall after their end of life date
+     * are left untouched and reported as rejected, as are requested ids that do not match.
+     */
+    BulkUpdateResponse bulkUpdate(BulkUpdateApplicationsRequest request);
+
+    /**
+     * Link every contact to every application in a single INSERT that skips existing links.
+     * Ids that match no application or contact are reported as rejected.
+     */
+    BulkUpdateResponse linkContacts(Collection<UUID> applicationIds, Collection<UUID> contactIds);
+
+    /**
+     * Remove the links between the contacts and the applications in a single DELETE.
+     * Ids that match no application or contact are reported as rejected.
+     */
+    BulkUpdateResponse unlinkContacts(Collection<UUID> applicationIds, Collection<UUID> contactIds);
+}
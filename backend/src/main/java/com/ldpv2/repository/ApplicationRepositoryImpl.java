@@ -0,0 +1,162 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.dto.request.BulkUpdateApplicationsRequest;
+import com.ldpv2.dto.response.BulkUpdateResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    /*
+     * Selection and date validation happen in one statement: target holds every selected row with
+     * the outcome of the end of support / end of life check, updated applies the change to the valid ones.
+     * Parameters: 1-4 new dates for the check, 5-6 ids, 7-8 filter status, 9-10 filter business unit,
+     * 11-13 new status and dates, 14 requested ids (to report the ones that matched nothing)
+     */
+    private static final String BULK_UPDATE_SQL =
+            "WITH target AS ( " +
+            "  SELECT a.id, " +
+            "         (COALESCE(CAST(? AS date), a.end_of_support_date) IS NULL " +
+            "          OR COALESCE(CAST(? AS date), a.end_of_life_date) IS NULL " +
+            "          OR COALESCE(CAST(? AS date), a.end_of_support_date) " +
+            "             <= COALESCE(CAST(? AS date), a.end_of_life_date)) AS valid " +
+            "  FROM application a " +
+            "  WHERE (CAST(? AS uuid[]) IS NULL OR a.id = ANY (CAST(? AS uuid[]))) " +
+            "    AND (CAST(? AS varchar) IS NULL OR a.status = CAST(? AS varchar)) " +
+            "    AND (CAST(? AS uuid) IS NULL OR a.business_unit_id = CAST(? AS uuid)) " +
+            "), updated AS ( " +
+            "  UPDATE application a " +
+            "  SET status = COALESCE(CAST(? AS varchar), a.status), " +
+            "      end_of_life_date = COALESCE(CAST(? AS date), a.end_of_life_date), " +
+            "      end_of_support_date = COALESCE(CAST(? AS date), a.end_of_support_date), " +
+            "      updated_at = CURRENT_TIMESTAMP " +
+            "  FROM target t " +
+            "  WHERE a.id = t.id AND t.valid " +
+            "  RETURNING a.id " +
+            ") " +
+            "SELECT (SELECT COUNT(*) FROM updated) AS affected, " +
+            "       ARRAY(SELECT t.id FROM target t WHERE NOT t.valid " +
+            "             UNION " +
+            "             SELECT r.id FROM unnest(CAST(? AS uuid[])) AS r(id) " +
+            "             WHERE NOT EXISTS (SELECT 1 FROM target t WHERE t.id = r.id)) AS rejected";
+
+    /*
+     * Link and unlink share the selection of existing applications and contacts and the report
+     * of requested ids that matched nothing. Parameters: 1 application ids, 2 contact ids, 3-4 the same again.
+     */
+    private static final String CONTACT_SELECTION =
+            "WITH apps AS (SELECT a.id FROM application a WHERE a.id = ANY (CAST(? AS uuid[]))), " +
+            "contacts AS (SELECT c.id FROM contact c WHERE c.id = ANY (CAST(? AS uuid[]))), ";
+
+    private static final String CONTACT_RESULT =
+            "SELECT (SELECT COUNT(*) FROM changed) AS affected, " +
+            "       ARRAY(SELECT r.id FROM unnest(CAST(? AS uuid[])) AS r(id) " +
+            "             WHERE NOT EXISTS (SELECT 1 FROM apps WHERE apps.id = r.id) " +
+            "             UNION " +
+            "             SELECT r.id FROM unnest(CAST(? AS uuid[])) AS r(id) " +
+            "             WHERE NOT EXISTS (SELECT 1 FROM contacts WHERE contacts.id = r.id)) AS rejected";
+
+    private static final String LINK_CONTACTS_SQL =
+            CONTACT_SELECTION +
+            "changed AS ( " +
+            "  INSERT INTO application_contact (application_id, contact_id) " +
+            "  SELECT apps.id, contacts.id FROM apps CROSS JOIN contacts " +
+            "  ON CONFLICT DO NOTHING " +
+            "  RETURNING 1 " +
+            ") " +
+            CONTACT_RESULT;
+
+    private static final String UNLINK_CONTACTS_SQL =
+            CONTACT_SELECTION +
+            "changed AS ( " +
+            "  DELETE FROM application_contact ac " +
+            "  WHERE ac.application_id IN (SELECT id FROM apps) AND ac.contact_id IN (SELECT id FROM contacts) " +
+            "  RETURNING 1 " +
+            ") " +
+            CONTACT_RESULT;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public BulkUpdateResponse bulkUpdate(BulkUpdateApplicationsRequest request) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(BULK_UPDATE_SQL);
+            Array ids = request.getIds() != null && !request.getIds().isEmpty()
+                    ? connection.createArrayOf("uuid", request.getIds().toArray())
+                    : null;
+            String filterStatus = request.getFilterStatus() != null ? request.getFilterStatus().name() : null;
+            String status = request.getStatus() != null ? request.getStatus().name() : null;
+            Date endOfLifeDate = request.getEndOfLifeDate() != null ? Date.valueOf(request.getEndOfLifeDate()) : null;
+            Date endOfSupportDate = request.getEndOfSupportDate() != null
+                    ? Date.valueOf(request.getEndOfSupportDate()) : null;
+
+            ps.setDate(1, endOfSupportDate);
+            ps.setDate(2, endOfLifeDate);
+            ps.setDate(3, endOfSupportDate);
+            ps.setDate(4, endOfLifeDate);
+            setArray(ps, 5, ids);
+            setArray(ps, 6, ids);
+            ps.setString(7, filterStatus);
+            ps.setString(8, filterStatus);
+            ps.setObject(9, request.getFilterBusinessUnitId(), Types.OTHER);
+            ps.setObject(10, request.getFilterBusinessUnitId(), Types.OTHER);
+            ps.setString(11, status);
+            ps.setDate(12, endOfLifeDate);
+            ps.setDate(13, endOfSupportDate);
+            setArray(ps, 14, ids);
+            return ps;
+        }, this::mapBulkResult);
+    }
+
+    @Override
+    public BulkUpdateResponse linkContacts(Collection<UUID> applicationIds, Collection<UUID> contactIds) {
+        return changeContacts(LINK_CONTACTS_SQL, applicationIds, contactIds);
+    }
+
+    @Override
+    public BulkUpdateResponse unlinkContacts(Collection<UUID> applicationIds, Collection<UUID> contactIds) {
+        return changeContacts(UNLINK_CONTACTS_SQL, applicationIds, contactIds);
+    }
+
+    private BulkUpdateResponse changeContacts(String sql, Collection<UUID> applicationIds, Collection<UUID> contactIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            Array applications = connection.createArrayOf("uuid", applicationIds.toArray());
+            Array contacts = connection.createArrayOf("uuid", contactIds.toArray());
+            ps.setArray(1, applications);
+            ps.setArray(2, contacts);
+            ps.setArray(3, applications);
+            ps.setArray(4, contacts);
+            return ps;
+        }, this::mapBulkResult);
+    }
+
+    private BulkUpdateResponse mapBulkResult(ResultSet rs) throws SQLException {
+        rs.next();
+        List<UUID> rejectedIds = new ArrayList<>();
+        for (Object id : (Object[]) rs.getArray("rejected").getArray()) {
+            rejectedIds.add(id instanceof UUID ? (UUID) id : UUID.fromString(id.toString()));
+        }
+        return new BulkUpdateResponse(rs.getInt("affected"), rejectedIds);
+    }
+
+    private static void setArray(PreparedStatement ps, int index, Array value) throws SQLException {
+        if (value != null) {
+            ps.setArray(index, value);
+        } else {
+            ps.setNull(index, Types.ARRAY);
+        }
+    }
+}
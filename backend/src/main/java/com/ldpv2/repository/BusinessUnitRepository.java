@@ -4,8 +4,11 @@ import com.ldpv2.domain.entity.BusinessUnit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +17,23 @@ public interface BusinessUnitRepository extends JpaRepository<BusinessUnit, UUID
     Optional<BusinessUnit> findByName(String name);
     boolean existsByName(String name);
     Page<BusinessUnit> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    /**
+     * Typeahead matches on the name, prefix matches first.
+     * Served by the trigram index on lower(name).
+     */
+    @Query(value = "SELECT b.id AS id, b.name AS label, b.description AS detail FROM business_unit b " +
+                   "WHERE lower(b.name) LIKE :pattern ESCAPE '\\' " +
+                   "ORDER BY lower(b.name) LIKE :prefix ESCAPE '\\' DESC, similarity(lower(b.name), :term) DESC, b.name " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionProjection> suggest(
+        @Param("pattern") String pattern,
+        @Param("prefix") String prefix,
+        @Param("term") String term,
+        @Param("limit") int limit
+    );
+
+    @Query("SELECT COUNT(b) AS count, MAX(b.updatedAt) AS lastModified FROM BusinessUnit b")
+    CollectionVersionProjection findCollectionVersion();
 }
@@ -0,0 +1,129 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.Application;
+import com.ldpv2.domain.entity.BusinessUnit;
+import com.ldpv2.domain.entity.Environment;
+import com.ldpv2.domain.entity.Person;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC access used by CSV imports: natural-key lookups loaded once per import and batched inserts.
+ * Natural keys are lower-cased so lookups are case-insensitive.
+ * Ids and audit timestamps must already be set on inserted entities.
+ */
+@Repository
+public class CatalogImportRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public Map<String, UUID> findBusinessUnitIdsByName() {
+        Map<String, UUID> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM business_unit", rs -> {
+            ids.put(rs.getString("name").toLowerCase(Locale.ROOT), rs.getObject("id", UUID.class));
+        });
+        return ids;
+    }
+
+    public Set<String> findPersonEmails() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT lower(email) FROM person", String.class));
+    }
+
+    public Set<String> findEnvironmentNames() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT lower(name) FROM environment", String.class));
+    }
+
+    /**
+     * Existing applications keyed by business unit id and lower-cased name, see {@link #applicationKey}
+     */
+    public Set<String> findApplicationKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("SELECT business_unit_id, name FROM application", rs -> {
+            keys.add(applicationKey(rs.getObject("business_unit_id", UUID.class), rs.getString("name")));
+        });
+        return keys;
+    }
+
+    public static String applicationKey(UUID businessUnitId, String name) {
+        return businessUnitId + "|" + name.toLowerCase(Locale.ROOT);
+    }
+
+    public void insertBusinessUnits(List<BusinessUnit> businessUnits) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO business_unit (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            businessUnits, BATCH_SIZE, (ps, businessUnit) -> {
+                ps.setObject(1, businessUnit.getId());
+                ps.setString(2, businessUnit.getName());
+                ps.setString(3, businessUnit.getDescription());
+                ps.setTimestamp(4, Timestamp.valueOf(businessUnit.getCreatedAt()));
+                ps.setTimestamp(5, Timestamp.valueOf(businessUnit.getUpdatedAt()));
+            });
+    }
+
+    public void insertPersons(List<Person> persons) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO person (id, first_name, last_name, email, phone, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            persons, BATCH_SIZE, (ps, person) -> {
+                ps.setObject(1, person.getId());
+                ps.setString(2, person.getFirstName());
+                ps.setString(3, person.getLastName());
+                ps.setString(4, person.getEmail());
+                ps.setString(5, person.getPhone());
+                ps.setTimestamp(6, Timestamp.valueOf(person.getCreatedAt()));
+                ps.setTimestamp(7, Timestamp.valueOf(person.getUpdatedAt()));
+            });
+    }
+
+    public void insertEnvironments(List<Environment> environments) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO environment (id, name, description, is_production, criticality_level, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            environments, BATCH_SIZE, (ps, environment) -> {
+                ps.setObject(1, environment.getId());
+                ps.setString(2, environment.getName());
+                ps.setString(3, environment.getDescription());
+                ps.setBoolean(4, Boolean.TRUE.equals(environment.getIsProduction()));
+                if (environment.getCriticalityLevel() != null) {
+                    ps.setInt(5, environment.getCriticalityLevel());
+                } else {
+                    ps.setNull(5, Types.INTEGER);
+                }
+                ps.setTimestamp(6, Timestamp.valueOf(environment.getCreatedAt()));
+                ps.setTimestamp(7, Timestamp.valueOf(environment.getUpdatedAt()));
+            });
+    }
+
+    public void insertApplications(List<Application> applications) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO application (id, name, description, status, business_unit_id, " +
+            "end_of_life_date, end_of_support_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            applications, BATCH_SIZE, (ps, application) -> {
+                ps.setObject(1, application.getId());
+                ps.setString(2, application.getName());
+                ps.setString(3, application.getDescription());
+                ps.setString(4, application.getStatus().name());
+                ps.setObject(5, application.getBusinessUnit().getId());
+                ps.setDate(6, application.getEndOfLifeDate() != null ? Date.valueOf(application.getEndOfLifeDate()) : null);
+                ps.setDate(7, application.getEndOfSupportDate() != null ? Date.valueOf(application.getEndOfSupportDate()) : null);
+                ps.setTimestamp(8, Timestamp.valueOf(application.getCreatedAt()));
+                ps.setTimestamp(9, Timestamp.valueOf(application.getUpdatedAt()));
+            });
+    }
+}
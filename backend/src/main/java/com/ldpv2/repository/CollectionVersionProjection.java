@@ -0,0 +1,11 @@
+package com.ldpv2.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest modification of a table, used to version list responses
+ */
+public interface CollectionVersionProjection {
+    long getCount();
+    LocalDateTime getLastModified();
+}
@@ -0,0 +1,13 @@
+package com.ldpv2.repository;
+
+import java.util.UUID;
+
+/**
+ * Per contact role: how many applications are in scope and how many have no contact in that role
+ */
+public interface ContactCoverageProjection {
+    UUID getRoleId();
+    String getRoleName();
+    long getTotalApplications();
+    long getMissingApplications();
+}
@@ -0,0 +1,36 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.ContactPerson;
+import com.ldpv2.dto.response.PersonApplicationResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public interface ContactPersonRepository extends JpaRepository<ContactPerson, ContactPerson.ContactPersonId>,
+        ContactPersonRepositoryCustom {
+    
+    @Query("SELECT cp FROM ContactPerson cp JOIN FETCH cp.person WHERE cp.contact.id IN :contactIds")
+    List<ContactPerson> findWithPersonByContactIdIn(@Param("contactIds") Collection<UUID> contactIds);
+    
+    /**
+     * Applications the person is a contact for, one row per application and contact.
+     * Served by idx_contact_person_person and idx_app_contact_contact.
+     */
+    @Query("SELECT new com.ldpv2.dto.response.PersonApplicationResponse(" +
+           "a.id, a.name, c.id, r.roleName, cp.isPrimary) " +
+           "FROM ContactPerson cp JOIN cp.contact c JOIN c.contactRole r, " +
+           "ApplicationContact ac JOIN ac.application a " +
+           "WHERE ac.contact = c AND cp.person.id = :personId " +
+           "ORDER BY a.name, r.roleName")
+    List<PersonApplicationResponse> findApplicationsByPersonId(@Param("personId") UUID personId);
+    
+    @Query("SELECT cp.id.personId FROM ContactPerson cp WHERE cp.id.contactId = :contactId")
+    Set<UUID> findPersonIdsByContactId(@Param("contactId") UUID contactId);
+}
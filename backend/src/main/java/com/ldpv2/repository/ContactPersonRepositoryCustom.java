@@ -0,0 +1,26 @@
+package com.ldpv2.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JDBC-backed changes to contact membership that bypass the persistence context.
+ * Callers check that the contact and persons exist.
+ */
+public interface ContactPersonRepositoryCustom {
+
+    /**
+     * Add the persons to the contact in one JDBC batch; only primaryPersonId is flagged primary
+     */
+    void insertPersons(UUID contactId, Collection<UUID> personIds, UUID primaryPersonId);
+
+    /**
+     * Remove the persons from the contact in one JDBC batch
+     */
+    void deletePersons(UUID contactId, Collection<UUID> personIds);
+
+    /**
+     * Flag the person as the contact's only primary person in a single UPDATE
+     */
+    void setPrimary(UUID contactId, UUID personId);
+}
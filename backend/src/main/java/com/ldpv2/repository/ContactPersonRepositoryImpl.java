@@ -0,0 +1,49 @@
+package com.ldpv2.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class ContactPersonRepositoryImpl implements ContactPersonRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertPersons(UUID contactId, Collection<UUID> personIds, UUID primaryPersonId) {
+        if (personIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO contact_person (contact_id, person_id, is_primary) VALUES (?, ?, ?)",
+            personIds, BATCH_SIZE, (ps, personId) -> {
+                ps.setObject(1, contactId);
+                ps.setObject(2, personId);
+                ps.setBoolean(3, personId.equals(primaryPersonId));
+            });
+    }
+
+    @Override
+    public void deletePersons(UUID contactId, Collection<UUID> personIds) {
+        if (personIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "DELETE FROM contact_person WHERE contact_id = ? AND person_id = ?",
+            personIds, BATCH_SIZE, (ps, personId) -> {
+                ps.setObject(1, contactId);
+                ps.setObject(2, personId);
+            });
+    }
+
+    @Override
+    public void setPrimary(UUID contactId, UUID personId) {
+        jdbcTemplate.update(
+            "UPDATE contact_person SET is_primary = (person_id = ?) WHERE contact_id = ?",
+            personId, contactId);
+    }
+}
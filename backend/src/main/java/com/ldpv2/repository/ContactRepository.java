@@ -1,18 +1,47 @@
 package com.ldpv2.repository;
 
 import com.ldpv2.domain.entity.Contact;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, UUID> {
     
-    @Query("SELECT c FROM Contact c JOIN FETCH c.contactRole LEFT JOIN FETCH c.contactPersons cp LEFT JOIN FETCH cp.person")
-    List<Contact> findAllWithDetails();
+    // Null parameters are cast so PostgreSQL can infer their type
+    String FILTER =
+           "(CAST(:contactRoleId AS java.util.UUID) IS NULL OR c.contactRole.id = :contactRoleId) AND " +
+           "(CAST(:pattern AS String) IS NULL OR EXISTS (SELECT 1 FROM ContactPerson cp JOIN cp.person p " +
+           "  WHERE cp.contact = c AND (" +
+           "  LOWER(CONCAT(p.firstName, ' ', p.lastName)) LIKE CAST(:pattern AS String) ESCAPE '\\' OR " +
+           "  LOWER(p.email) LIKE CAST(:pattern AS String) ESCAPE '\\'))) AND " +
+           "(CAST(:excludeApplicationId AS java.util.UUID) IS NULL OR NOT EXISTS (SELECT 1 FROM ApplicationContact ac " +
+           "  WHERE ac.contact = c AND ac.application.id = :excludeApplicationId))";
+    
+    /**
+     * One page of contact ids, optionally restricted to a role and to contacts having a person
+     * whose lower-cased name or email matches {@code pattern}, and excluding the contacts already linked to
+     * {@code excludeApplicationId}; the contacts themselves are loaded with
+     * {@link #findWithRoleByIdIn} so that paging happens on single rows
+     */
+    @Query(value = "SELECT c.id FROM Contact c WHERE " + FILTER,
+           countQuery = "SELECT COUNT(c) FROM Contact c WHERE " + FILTER)
+    Page<UUID> findPageIds(
+        @Param("contactRoleId") UUID contactRoleId,
+        @Param("pattern") String pattern,
+        @Param("excludeApplicationId") UUID excludeApplicationId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT c FROM Contact c JOIN FETCH c.contactRole WHERE c.id IN :ids")
+    List<Contact> findWithRoleByIdIn(@Param("ids") Collection<UUID> ids);
     
     @Query("SELECT c FROM Contact c JOIN FETCH c.contactRole LEFT JOIN FETCH c.contactPersons cp LEFT JOIN FETCH cp.person WHERE c.id = :id")
     Contact findByIdWithDetails(UUID id);
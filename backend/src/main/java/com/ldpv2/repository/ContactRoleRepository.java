@@ -2,8 +2,11 @@ package com.ldpv2.repository;
 
 import com.ldpv2.domain.entity.ContactRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +14,22 @@ import java.util.UUID;
 public interface ContactRoleRepository extends JpaRepository<ContactRole, UUID> {
     Optional<ContactRole> findByRoleName(String roleName);
     boolean existsByRoleName(String roleName);
+    
+    /**
+     * Coverage of every role across the applications in scope, in one statement:
+     * each role is paired with each application and the missing ones are counted with an anti-join.
+     * Served by idx_app_contact_application and idx_contact_role.
+     */
+    @Query(value = "SELECT r.id AS roleId, r.role_name AS roleName, " +
+                   "COUNT(a.id) AS totalApplications, " +
+                   "COUNT(a.id) FILTER (WHERE NOT EXISTS (" +
+                   "  SELECT 1 FROM application_contact ac JOIN contact c ON c.id = ac.contact_id " +
+                   "  WHERE ac.application_id = a.id AND c.contact_role_id = r.id)) AS missingApplications " +
+                   "FROM contact_role r " +
+                   "LEFT JOIN application a ON (CAST(:businessUnitId AS UUID) IS NULL " +
+                   "  OR a.business_unit_id = CAST(:businessUnitId AS UUID)) " +
+                   "GROUP BY r.id, r.role_name " +
+                   "ORDER BY r.role_name",
+           nativeQuery = true)
+    List<ContactCoverageProjection> findCoverage(@Param("businessUnitId") String businessUnitId);
 }
@@ -0,0 +1,80 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.DeploymentCurrent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeploymentCurrentRepository 
+        extends JpaRepository<DeploymentCurrent, DeploymentCurrent.DeploymentCurrentId> {
+
+    @Query("SELECT dc FROM DeploymentCurrent dc " +
+           "JOIN FETCH dc.application a " +
+           "JOIN FETCH a.businessUnit " +
+           "JOIN FETCH dc.environment e " +
+           "JOIN FETCH dc.version " +
+           "WHERE (CAST(:applicationId AS java.util.UUID) IS NULL OR a.id = :applicationId) AND " +
+           "      (CAST(:environmentId AS java.util.UUID) IS NULL OR e.id = :environmentId) " +
+           "ORDER BY a.name, e.name")
+    List<DeploymentCurrent> findCurrentState(
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId
+    );
+
+    /**
+     * Current state of several environments at once, used to compare them
+     */
+    @Query("SELECT dc FROM DeploymentCurrent dc " +
+           "JOIN FETCH dc.application a " +
+           "JOIN FETCH a.businessUnit " +
+           "JOIN FETCH dc.environment e " +
+           "JOIN FETCH dc.version " +
+           "WHERE e.id IN :environmentIds " +
+           "ORDER BY a.name")
+    List<DeploymentCurrent> findByEnvironmentIds(@Param("environmentIds") Collection<UUID> environmentIds);
+
+    /**
+     * Upsert the current state from the given deployments.
+     * A backdated deployment never replaces a more recent one.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deployment_current " +
+           "  (application_id, environment_id, deployment_id, version_id, deployment_date, deployed_by, updated_at) " +
+           "SELECT DISTINCT ON (d.application_id, d.environment_id) " +
+           "  d.application_id, d.environment_id, d.id, d.version_id, d.deployment_date, d.deployed_by, CURRENT_TIMESTAMP " +
+           "FROM deployment d WHERE d.id IN (:deploymentIds) " +
+           "ORDER BY d.application_id, d.environment_id, d.deployment_date DESC, d.created_at DESC " +
+           "ON CONFLICT (application_id, environment_id) DO UPDATE SET " +
+           "  deployment_id = EXCLUDED.deployment_id, " +
+           "  version_id = EXCLUDED.version_id, " +
+           "  deployment_date = EXCLUDED.deployment_date, " +
+           "  deployed_by = EXCLUDED.deployed_by, " +
+           "  updated_at = EXCLUDED.updated_at " +
+           "WHERE deployment_current.deployment_date <= EXCLUDED.deployment_date",
+           nativeQuery = true)
+    int upsertFromDeployments(@Param("deploymentIds") Collection<UUID> deploymentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM deployment_current", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Rebuild the whole table from the deployment history
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deployment_current " +
+           "  (application_id, environment_id, deployment_id, version_id, deployment_date, deployed_by, updated_at) " +
+           "SELECT DISTINCT ON (d.application_id, d.environment_id) " +
+           "  d.application_id, d.environment_id, d.id, d.version_id, d.deployment_date, d.deployed_by, CURRENT_TIMESTAMP " +
+           "FROM deployment d " +
+           "ORDER BY d.application_id, d.environment_id, d.deployment_date DESC, d.created_at DESC",
+           nativeQuery = true)
+    int insertFromHistory();
+}
@@ -0,0 +1,94 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.DeploymentDailyRollup;
+import com.ldpv2.dto.response.DeploymentTrendPointResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeploymentDailyRollupRepository 
+        extends JpaRepository<DeploymentDailyRollup, DeploymentDailyRollup.DeploymentDailyRollupId> {
+
+    String STATS_FILTER =
+           "r.id.deploymentDay >= :from AND r.id.deploymentDay <= :to AND " +
+           "(CAST(:applicationId AS java.util.UUID) IS NULL OR r.id.applicationId = :applicationId) AND " +
+           "(CAST(:environmentId AS java.util.UUID) IS NULL OR r.id.environmentId = :environmentId)";
+
+    /**
+     * Add the given deployments to their daily counters
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deployment_daily_rollup " +
+           "  (deployment_day, application_id, environment_id, is_production, deployment_count, updated_at) " +
+           "SELECT CAST(d.deployment_date AS DATE), d.application_id, d.environment_id, e.is_production, " +
+           "  COUNT(*), CURRENT_TIMESTAMP " +
+           "FROM deployment d JOIN environment e ON e.id = d.environment_id " +
+           "WHERE d.id IN (:deploymentIds) " +
+           "GROUP BY CAST(d.deployment_date AS DATE), d.application_id, d.environment_id, e.is_production " +
+           "ON CONFLICT (deployment_day, application_id, environment_id) DO UPDATE SET " +
+           "  deployment_count = deployment_daily_rollup.deployment_count + EXCLUDED.deployment_count, " +
+           "  is_production = EXCLUDED.is_production, " +
+           "  updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int incrementFromDeployments(@Param("deploymentIds") Collection<UUID> deploymentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM deployment_daily_rollup WHERE deployment_day >= :from AND deployment_day <= :to",
+           nativeQuery = true)
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recompute the counters of a day range from the deployment history.
+     * A deployment committed after the range was deleted may already have recreated its counter;
+     * the recomputed count replaces it, as it includes that deployment.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deployment_daily_rollup " +
+           "  (deployment_day, application_id, environment_id, is_production, deployment_count, updated_at) " +
+           "SELECT CAST(d.deployment_date AS DATE), d.application_id, d.environment_id, e.is_production, " +
+           "  COUNT(*), CURRENT_TIMESTAMP " +
+           "FROM deployment d JOIN environment e ON e.id = d.environment_id " +
+           "WHERE d.deployment_date >= :fromInclusive AND d.deployment_date < :toExclusive " +
+           "GROUP BY CAST(d.deployment_date AS DATE), d.application_id, d.environment_id, e.is_production " +
+           "ON CONFLICT (deployment_day, application_id, environment_id) DO UPDATE SET " +
+           "  deployment_count = EXCLUDED.deployment_count, " +
+           "  is_production = EXCLUDED.is_production, " +
+           "  updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int insertRangeFromHistory(
+        @Param("fromInclusive") LocalDateTime fromInclusive,
+        @Param("toExclusive") LocalDateTime toExclusive
+    );
+
+    @Query("SELECT COALESCE(SUM(r.deploymentCount), 0) FROM DeploymentDailyRollup r WHERE " + STATS_FILTER +
+           " AND (:production IS NULL OR r.isProduction = :production)")
+    long sumDeployments(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId,
+        @Param("production") Boolean production
+    );
+
+    @Query("SELECT new com.ldpv2.dto.response.DeploymentTrendPointResponse(" +
+           "  r.id.deploymentDay, e.id, e.name, SUM(r.deploymentCount)) " +
+           "FROM DeploymentDailyRollup r JOIN Environment e ON e.id = r.id.environmentId " +
+           "WHERE " + STATS_FILTER +
+           " GROUP BY r.id.deploymentDay, e.id, e.name " +
+           "ORDER BY r.id.deploymentDay, e.name")
+    List<DeploymentTrendPointResponse> findTrend(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId
+    );
+}
@@ -0,0 +1,39 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.DeploymentIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface DeploymentIdempotencyKeyRepository
+        extends JpaRepository<DeploymentIdempotencyKey, String>, DeploymentIdempotencyKeyRepositoryCustom {
+
+    /**
+     * Claim a key before recording its deployment.
+     * Waits for a concurrent claim of the same key to finish; returns 0 when the key was already taken.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deployment_idempotency_key (idempotency_key, created_at) " +
+                   "VALUES (:idempotencyKey, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (idempotency_key) DO NOTHING",
+           nativeQuery = true)
+    int claim(@Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("UPDATE DeploymentIdempotencyKey k SET k.deploymentId = :deploymentId " +
+           "WHERE k.idempotencyKey = :idempotencyKey")
+    int assignDeployment(
+        @Param("idempotencyKey") String idempotencyKey,
+        @Param("deploymentId") UUID deploymentId
+    );
+
+    @Modifying
+    @Query("DELETE FROM DeploymentIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,16 @@
+package com.ldpv2.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC-backed operations on idempotency keys that bypass the persistence context
+ */
+public interface DeploymentIdempotencyKeyRepositoryCustom {
+
+    /**
+     * Claim keys for the given deployment ids using JDBC batching.
+     * Keys that already exist are left untouched.
+     */
+    void claimAll(Map<String, UUID> deploymentIdsByKey);
+}
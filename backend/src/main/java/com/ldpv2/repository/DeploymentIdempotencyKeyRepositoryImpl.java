@@ -0,0 +1,30 @@
+package com.ldpv2.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+
+public class DeploymentIdempotencyKeyRepositoryImpl implements DeploymentIdempotencyKeyRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO deployment_idempotency_key (idempotency_key, deployment_id, created_at) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void claimAll(Map<String, UUID> deploymentIdsByKey) {
+        jdbcTemplate.batchUpdate(CLAIM_SQL, new ArrayList<>(deploymentIdsByKey.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setObject(2, entry.getValue());
+                });
+    }
+}
@@ -1,33 +1,53 @@
 package com.ldpv2.repository;
 
 import com.ldpv2.domain.entity.Deployment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface DeploymentRepository extends JpaRepository<Deployment, UUID> {
+public interface DeploymentRepository extends JpaRepository<Deployment, UUID>, DeploymentRepositoryCustom {
     
+    // Parameters are cast so PostgreSQL can infer their type in the IS NULL checks
+    String SEARCH_FILTER =
+           "(CAST(:applicationId AS java.util.UUID) IS NULL OR d.application.id = :applicationId) AND " +
+           "(CAST(:environmentId AS java.util.UUID) IS NULL OR d.environment.id = :environmentId) AND " +
+           "(CAST(:versionId AS java.util.UUID) IS NULL OR d.version.id = :versionId) AND " +
+           "(CAST(:dateFrom AS java.time.LocalDateTime) IS NULL OR d.deploymentDate >= :dateFrom) AND " +
+           "(CAST(:dateTo AS java.time.LocalDateTime) IS NULL OR d.deploymentDate <= :dateTo)";
+    
+    @Override
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    Page<Deployment> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
     Page<Deployment> findByApplicationId(UUID applicationId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
     Page<Deployment> findByEnvironmentId(UUID environmentId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
     Page<Deployment> findByApplicationIdAndEnvironmentId(UUID applicationId, UUID environmentId, Pageable pageable);
     
-    @Query("SELECT d FROM Deployment d WHERE " +
-           "(:applicationId IS NULL OR d.application.id = :applicationId) AND " +
-           "(:environmentId IS NULL OR d.environment.id = :environmentId) AND " +
-           "(:versionId IS NULL OR d.version.id = :versionId) AND " +
-           "(:dateFrom IS NULL OR d.deploymentDate >= :dateFrom) AND " +
-           "(:dateTo IS NULL OR d.deploymentDate <= :dateTo)")
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    @Query("SELECT d FROM Deployment d WHERE " + SEARCH_FILTER)
     Page<Deployment> search(
         @Param("applicationId") UUID applicationId,
         @Param("environmentId") UUID environmentId,
@@ -37,18 +57,77 @@ public interface DeploymentRepository extends JpaRepository<Deployment, UUID> {
         Pageable pageable
     );
     
+    // Slice variants fetch one extra row to know whether a next page exists, without a count query
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    Slice<Deployment> findAllBy(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    @Query("SELECT d FROM Deployment d WHERE " + SEARCH_FILTER)
+    Slice<Deployment> searchSlice(
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId,
+        @Param("versionId") UUID versionId,
+        @Param("dateFrom") LocalDateTime dateFrom,
+        @Param("dateTo") LocalDateTime dateTo,
+        Pageable pageable
+    );
+    
     /**
-     * Get current deployment state - most recent deployment per application/environment
+     * Forward-only read of the filtered history for exports.
+     * Must be consumed inside a transaction and closed by the caller.
      */
-    @Query("SELECT d FROM Deployment d WHERE d.id IN (" +
-           "  SELECT MAX(d2.id) FROM Deployment d2 " +
-           "  WHERE (:applicationId IS NULL OR d2.application.id = :applicationId) AND " +
-           "        (:environmentId IS NULL OR d2.environment.id = :environmentId) " +
-           "  GROUP BY d2.application.id, d2.environment.id" +
-           ")")
-    List<Deployment> findCurrentState(
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT d FROM Deployment d " +
+           "JOIN FETCH d.application a " +
+           "JOIN FETCH a.businessUnit " +
+           "JOIN FETCH d.version " +
+           "JOIN FETCH d.environment " +
+           "WHERE " + SEARCH_FILTER +
+           " ORDER BY d.deploymentDate DESC, d.id DESC")
+    Stream<Deployment> streamForExport(
         @Param("applicationId") UUID applicationId,
-        @Param("environmentId") UUID environmentId
+        @Param("environmentId") UUID environmentId,
+        @Param("versionId") UUID versionId,
+        @Param("dateFrom") LocalDateTime dateFrom,
+        @Param("dateTo") LocalDateTime dateTo
+    );
+    
+    /**
+     * First page of a keyset scan ordered by (deploymentDate, id) descending
+     */
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    @Query("SELECT d FROM Deployment d WHERE " + SEARCH_FILTER + 
+           " ORDER BY d.deploymentDate DESC, d.id DESC")
+    List<Deployment> searchFirst(
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId,
+        @Param("versionId") UUID versionId,
+        @Param("dateFrom") LocalDateTime dateFrom,
+        @Param("dateTo") LocalDateTime dateTo,
+        Limit limit
+    );
+    
+    /**
+     * Next page of a keyset scan, seeking past the last (deploymentDate, id) returned
+     */
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "version", "environment"})
+    @Query("SELECT d FROM Deployment d WHERE " + SEARCH_FILTER + " AND " +
+           "(d.deploymentDate < :cursorDate OR (d.deploymentDate = :cursorDate AND d.id < :cursorId)) " +
+           "ORDER BY d.deploymentDate DESC, d.id DESC")
+    List<Deployment> searchAfter(
+        @Param("applicationId") UUID applicationId,
+        @Param("environmentId") UUID environmentId,
+        @Param("versionId") UUID versionId,
+        @Param("dateFrom") LocalDateTime dateFrom,
+        @Param("dateTo") LocalDateTime dateTo,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") UUID cursorId,
+        Limit limit
     );
     
     /**
@@ -61,4 +140,56 @@ public interface DeploymentRepository extends JpaRepository<Deployment, UUID> {
         @Param("applicationId") UUID applicationId,
         @Param("environmentId") UUID environmentId
     );
+    
+    /**
+     * Load deployments with everything needed to build a response
+     */
+    @Query("SELECT d FROM Deployment d " +
+           "JOIN FETCH d.application a " +
+           "JOIN FETCH a.businessUnit " +
+           "JOIN FETCH d.version " +
+           "JOIN FETCH d.environment " +
+           "WHERE d.id IN :ids " +
+           "ORDER BY d.deploymentDate")
+    List<Deployment> findWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * The deployment that was live for each application in an environment at a point in time,
+     * with the columns of its response. Answered in one pass over idx_deployment_app_env_date.
+     */
+    @Query(value = "SELECT a.id AS applicationId, a.name AS applicationName, a.status AS applicationStatus, " +
+                   "  bu.name AS businessUnitName, e.id AS environmentId, e.name AS environmentName, " +
+                   "  e.is_production AS environmentProduction, v.id AS versionId, " +
+                   "  v.version_identifier AS versionIdentifier, v.release_date AS versionReleaseDate, " +
+                   "  s.deployment_date AS deploymentDate, s.deployed_by AS deployedBy " +
+                   "FROM (SELECT DISTINCT ON (d.application_id) " +
+                   "        d.application_id, d.environment_id, d.version_id, d.deployment_date, d.deployed_by " +
+                   "      FROM deployment d " +
+                   "      WHERE d.environment_id = :environmentId AND d.deployment_date <= :timestamp " +
+                   "      ORDER BY d.application_id, d.deployment_date DESC, d.id DESC) s " +
+                   "JOIN application a ON a.id = s.application_id " +
+                   "JOIN business_unit bu ON bu.id = a.business_unit_id " +
+                   "JOIN version v ON v.id = s.version_id " +
+                   "JOIN environment e ON e.id = s.environment_id " +
+                   "ORDER BY a.name",
+           nativeQuery = true)
+    List<DeploymentStateRow> findStateAt(
+        @Param("environmentId") UUID environmentId,
+        @Param("timestamp") LocalDateTime timestamp
+    );
+    
+    interface DeploymentStateRow {
+        UUID getApplicationId();
+        String getApplicationName();
+        String getApplicationStatus();
+        String getBusinessUnitName();
+        UUID getEnvironmentId();
+        String getEnvironmentName();
+        Boolean getEnvironmentProduction();
+        UUID getVersionId();
+        String getVersionIdentifier();
+        LocalDate getVersionReleaseDate();
+        LocalDateTime getDeploymentDate();
+        String getDeployedBy();
+    }
 }
@@ -0,0 +1,17 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.Deployment;
+
+import java.util.List;
+
+/**
+ * JDBC-backed operations on deployments that bypass the persistence context
+ */
+public interface DeploymentRepositoryCustom {
+
+    /**
+     * Insert deployments using JDBC batching.
+     * Ids and audit timestamps must already be set on each deployment.
+     */
+    void batchInsert(List<Deployment> deployments);
+}
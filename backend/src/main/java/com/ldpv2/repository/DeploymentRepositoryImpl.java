@@ -0,0 +1,36 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.Deployment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public class DeploymentRepositoryImpl implements DeploymentRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO deployment (id, application_id, version_id, environment_id, " +
+            "deployment_date, deployed_by, notes, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Deployment> deployments) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, deployments, BATCH_SIZE, (ps, deployment) -> {
+            ps.setObject(1, deployment.getId());
+            ps.setObject(2, deployment.getApplication().getId());
+            ps.setObject(3, deployment.getVersion().getId());
+            ps.setObject(4, deployment.getEnvironment().getId());
+            ps.setTimestamp(5, Timestamp.valueOf(deployment.getDeploymentDate()));
+            ps.setString(6, deployment.getDeployedBy());
+            ps.setString(7, deployment.getNotes());
+            ps.setTimestamp(8, Timestamp.valueOf(deployment.getCreatedAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(deployment.getUpdatedAt()));
+        });
+    }
+}
@@ -3,10 +3,15 @@ package com.ldpv2.repository;
 import com.ldpv2.domain.entity.Environment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -14,4 +19,15 @@ public interface EnvironmentRepository extends JpaRepository<Environment, UUID>
     Optional<Environment> findByName(String name);
     boolean existsByName(String name);
     Page<Environment> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    /**
+     * Fetches one extra row to know whether a next page exists, without a count query
+     */
+    Slice<Environment> findAllBy(Pageable pageable);
+    
+    @Query("SELECT e.id FROM Environment e WHERE e.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT COUNT(e) AS count, MAX(e.updatedAt) AS lastModified FROM Environment e")
+    CollectionVersionProjection findCollectionVersion();
 }
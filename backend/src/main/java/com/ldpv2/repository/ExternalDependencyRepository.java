@@ -3,6 +3,8 @@ package com.ldpv2.repository;
 import com.ldpv2.domain.entity.ExternalDependency;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,10 +17,28 @@ import java.util.UUID;
 @Repository
 public interface ExternalDependencyRepository extends JpaRepository<ExternalDependency, UUID> {
     
+    // Null UUID parameters are cast so PostgreSQL can infer their type in the IS NULL checks
+    String SEARCH_QUERY = "SELECT d FROM ExternalDependency d WHERE " +
+           "(CAST(:applicationId AS java.util.UUID) IS NULL OR d.application.id = :applicationId) AND " +
+           "(CAST(:dependencyTypeId AS java.util.UUID) IS NULL OR d.dependencyType.id = :dependencyTypeId) AND " +
+           "(:status IS NULL OR " +
+           "  (:status = 'ACTIVE' AND (d.validityEndDate IS NULL OR d.validityEndDate >= :now) AND (d.validityStartDate IS NULL OR d.validityStartDate <= :now)) OR " +
+           "  (:status = 'EXPIRING' AND d.validityEndDate IS NOT NULL AND d.validityEndDate >= :now AND d.validityEndDate <= :expiringDate) OR " +
+           "  (:status = 'EXPIRED' AND d.validityEndDate IS NOT NULL AND d.validityEndDate < :now) OR " +
+           "  (:status = 'NOT_YET_VALID' AND d.validityStartDate IS NOT NULL AND d.validityStartDate > :now)" +
+           ")";
+    
+    @Override
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
+    Page<ExternalDependency> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
     Page<ExternalDependency> findByApplicationId(UUID applicationId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
     Page<ExternalDependency> findByDependencyTypeId(UUID dependencyTypeId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
     @Query("SELECT d FROM ExternalDependency d WHERE " +
            "d.validityEndDate IS NOT NULL AND " +
            "d.validityEndDate >= :now AND " +
@@ -28,20 +48,14 @@ public interface ExternalDependencyRepository extends JpaRepository<ExternalDepe
         @Param("expirationDate") LocalDate expirationDate
     );
     
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
     @Query("SELECT d FROM ExternalDependency d WHERE " +
            "d.validityEndDate IS NOT NULL AND " +
            "d.validityEndDate < :now")
     List<ExternalDependency> findExpired(@Param("now") LocalDate now);
     
-    @Query("SELECT d FROM ExternalDependency d WHERE " +
-           "(:applicationId IS NULL OR d.application.id = :applicationId) AND " +
-           "(:dependencyTypeId IS NULL OR d.dependencyType.id = :dependencyTypeId) AND " +
-           "(:status IS NULL OR " +
-           "  (:status = 'ACTIVE' AND (d.validityEndDate IS NULL OR d.validityEndDate >= :now) AND (d.validityStartDate IS NULL OR d.validityStartDate <= :now)) OR " +
-           "  (:status = 'EXPIRING' AND d.validityEndDate IS NOT NULL AND d.validityEndDate >= :now AND d.validityEndDate <= :expiringDate) OR " +
-           "  (:status = 'EXPIRED' AND d.validityEndDate IS NOT NULL AND d.validityEndDate < :now) OR " +
-           "  (:status = 'NOT_YET_VALID' AND d.validityStartDate IS NOT NULL AND d.validityStartDate > :now)" +
-           ")")
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
+    @Query(SEARCH_QUERY)
     Page<ExternalDependency> search(
         @Param("applicationId") UUID applicationId,
         @Param("dependencyTypeId") UUID dependencyTypeId,
@@ -51,5 +65,21 @@ public interface ExternalDependencyRepository extends JpaRepository<ExternalDepe
         Pageable pageable
     );
     
+    // Slice variants fetch one extra row to know whether a next page exists, without a count query
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
+    Slice<ExternalDependency> findAllBy(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"application", "application.businessUnit", "dependencyType"})
+    @Query(SEARCH_QUERY)
+    Slice<ExternalDependency> searchSlice(
+        @Param("applicationId") UUID applicationId,
+        @Param("dependencyTypeId") UUID dependencyTypeId,
+        @Param("status") String status,
+        @Param("now") LocalDate now,
+        @Param("expiringDate") LocalDate expiringDate,
+        Pageable pageable
+    );
+    
     long countByDependencyTypeId(UUID dependencyTypeId);
 }
@@ -0,0 +1,70 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.LifecycleRisk;
+import com.ldpv2.domain.enums.LifecycleRiskType;
+import com.ldpv2.dto.response.LifecycleRiskResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface LifecycleRiskRepository extends JpaRepository<LifecycleRisk, LifecycleRisk.LifecycleRiskId> {
+
+    // Null UUID parameters are cast so PostgreSQL can infer their type in the IS NULL check
+    String RISK_FILTER =
+           "(:production IS NULL OR r.isProduction = :production) AND " +
+           "(:riskType IS NULL OR r.id.riskType = :riskType) AND " +
+           "(CAST(:environmentId AS java.util.UUID) IS NULL OR r.id.environmentId = :environmentId) AND " +
+           "(CAST(:applicationId AS java.util.UUID) IS NULL OR r.id.applicationId = :applicationId)";
+
+    @Modifying
+    @Query(value = "DELETE FROM lifecycle_risk", nativeQuery = true)
+    int deleteAllRisks();
+
+    /**
+     * Recompute every risk from the current deployment state in one statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO lifecycle_risk " +
+           "  (application_id, environment_id, risk_type, version_id, is_production, lifecycle_date, computed_at) " +
+           "SELECT dc.application_id, dc.environment_id, 'VERSION_END_OF_LIFE', dc.version_id, " +
+           "  e.is_production, v.end_of_life_date, CURRENT_TIMESTAMP " +
+           "FROM deployment_current dc " +
+           "JOIN version v ON v.id = dc.version_id " +
+           "JOIN environment e ON e.id = dc.environment_id " +
+           "WHERE v.end_of_life_date < :asOf " +
+           "UNION ALL " +
+           "SELECT dc.application_id, dc.environment_id, 'APPLICATION_END_OF_SUPPORT', dc.version_id, " +
+           "  e.is_production, a.end_of_support_date, CURRENT_TIMESTAMP " +
+           "FROM deployment_current dc " +
+           "JOIN application a ON a.id = dc.application_id " +
+           "JOIN environment e ON e.id = dc.environment_id " +
+           "WHERE a.end_of_support_date < :asOf",
+           nativeQuery = true)
+    int insertFromCurrentState(@Param("asOf") LocalDate asOf);
+
+    @Query(value = "SELECT new com.ldpv2.dto.response.LifecycleRiskResponse(" +
+           "  a.id, a.name, e.id, e.name, r.isProduction, v.id, v.versionIdentifier, " +
+           "  r.id.riskType, r.lifecycleDate, r.computedAt) " +
+           "FROM LifecycleRisk r " +
+           "JOIN Application a ON a.id = r.id.applicationId " +
+           "JOIN Environment e ON e.id = r.id.environmentId " +
+           "JOIN Version v ON v.id = r.versionId " +
+           "WHERE " + RISK_FILTER +
+           " ORDER BY r.lifecycleDate, a.name, e.name",
+           countQuery = "SELECT COUNT(r) FROM LifecycleRisk r WHERE " + RISK_FILTER)
+    Page<LifecycleRiskResponse> findRisks(
+        @Param("production") Boolean production,
+        @Param("riskType") LifecycleRiskType riskType,
+        @Param("environmentId") UUID environmentId,
+        @Param("applicationId") UUID applicationId,
+        Pageable pageable
+    );
+}
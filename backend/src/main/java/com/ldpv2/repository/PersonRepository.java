@@ -3,11 +3,13 @@ package com.ldpv2.repository;
 import com.ldpv2.domain.entity.Person;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,8 +18,35 @@ public interface PersonRepository extends JpaRepository<Person, UUID> {
     Optional<Person> findByEmail(String email);
     boolean existsByEmail(String email);
     
-    @Query("SELECT p FROM Person p WHERE " +
+    String NAME_QUERY = "SELECT p FROM Person p WHERE " +
            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
-           "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
+           "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :name, '%'))";
+    
+    @Query(NAME_QUERY)
     Page<Person> findByName(@Param("name") String name, Pageable pageable);
+    
+    // Slice variants fetch one extra row to know whether a next page exists, without a count query
+    
+    Slice<Person> findAllBy(Pageable pageable);
+    
+    @Query(NAME_QUERY)
+    Slice<Person> findSliceByName(@Param("name") String name, Pageable pageable);
+    
+    /**
+     * Typeahead matches on full name or email, prefix matches first.
+     * Served by the trigram indexes on lower(first_name || ' ' || last_name) and lower(email).
+     */
+    @Query(value = "SELECT p.id AS id, p.first_name || ' ' || p.last_name AS label, p.email AS detail FROM person p " +
+                   "WHERE lower(p.first_name || ' ' || p.last_name) LIKE :pattern ESCAPE '\\' " +
+                   "OR lower(p.email) LIKE :pattern ESCAPE '\\' " +
+                   "ORDER BY lower(p.first_name || ' ' || p.last_name) LIKE :prefix ESCAPE '\\' DESC, " +
+                   "similarity(lower(p.first_name || ' ' || p.last_name), :term) DESC, p.last_name, p.first_name " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionProjection> suggest(
+        @Param("pattern") String pattern,
+        @Param("prefix") String prefix,
+        @Param("term") String term,
+        @Param("limit") int limit
+    );
 }
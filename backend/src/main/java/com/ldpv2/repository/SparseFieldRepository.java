@@ -0,0 +1,91 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.util.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pages over an entity selecting only the requested attributes.
+ * Associations on a requested path are left-joined once, nothing else is loaded,
+ * so TEXT columns and unrelated associations never leave the database.
+ */
+@Repository
+public class SparseFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param count whether to run the count query and return a Page; otherwise one extra row
+     *              is fetched to tell whether a next page exists and a Slice is returned
+     */
+    public <T> Slice<Map<String, Object>> find(Class<T> entityClass, FieldSelection selection,
+                                               Specification<T> filter, Pageable pageable, boolean count) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String path : selection.getAttributePaths()) {
+            selections.add(resolve(root, path, joins));
+        }
+        query.multiselect(selections);
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(count ? pageable.getPageSize() : pageable.getPageSize() + 1)
+                .getResultList()) {
+            content.add(selection.toJson(tuple.toArray()));
+        }
+        if (!count) {
+            boolean hasNext = content.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<T> countRoot = countQuery.from(entityClass);
+        countQuery.select(cb.count(countRoot));
+        Predicate countPredicate = filter.toPredicate(countRoot, countQuery, cb);
+        if (countPredicate != null) {
+            countQuery.where(countPredicate);
+        }
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private Path<?> resolve(Root<?> root, String path, Map<String, From<?, ?>> joins) {
+        String[] parts = path.split("\\.");
+        From<?, ?> from = root;
+        String joined = "";
+        for (int i = 0; i < parts.length - 1; i++) {
+            joined = joined.isEmpty() ? parts[i] : joined + "." + parts[i];
+            From<?, ?> parent = from;
+            String attribute = parts[i];
+            from = joins.computeIfAbsent(joined, key -> parent.join(attribute, JoinType.LEFT));
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+}
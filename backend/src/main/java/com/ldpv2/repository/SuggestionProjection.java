@@ -0,0 +1,12 @@
+package com.ldpv2.repository;
+
+import java.util.UUID;
+
+/**
+ * Lightweight row returned by the typeahead queries
+ */
+public interface SuggestionProjection {
+    UUID getId();
+    String getLabel();
+    String getDetail();
+}
@@ -3,23 +3,39 @@ package com.ldpv2.repository;
 import com.ldpv2.domain.entity.Version;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VersionRepository extends JpaRepository<Version, UUID> {
     
+    @EntityGraph(attributePaths = {"application"})
     Page<Version> findByApplicationId(UUID applicationId, Pageable pageable);
     
     Optional<Version> findByApplicationIdAndVersionIdentifier(UUID applicationId, String versionIdentifier);
     
     boolean existsByApplicationIdAndVersionIdentifier(UUID applicationId, String versionIdentifier);
     
+    @EntityGraph(attributePaths = {"application"})
     @Query("SELECT v FROM Version v WHERE v.application.id = :applicationId ORDER BY v.releaseDate DESC LIMIT 1")
     Optional<Version> findLatestByApplicationId(@Param("applicationId") UUID applicationId);
+    
+    /**
+     * Resolve the owning application of each version without loading the entities
+     */
+    @Query("SELECT v.id AS id, v.application.id AS applicationId FROM Version v WHERE v.id IN :ids")
+    List<VersionApplicationRef> findApplicationRefsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    interface VersionApplicationRef {
+        UUID getId();
+        UUID getApplicationId();
+    }
 }
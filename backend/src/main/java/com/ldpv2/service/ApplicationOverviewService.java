@@ -0,0 +1,158 @@
+package com.ldpv2.service;
+
+import com.ldpv2.dto.response.*;
+import com.ldpv2.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Everything the application page needs, gathered concurrently in one call.
+ * Each part runs in its own read-only transaction on a bounded pool, so the
+ * response takes as long as the slowest query instead of the sum of all of them.
+ * The pool is kept well below the connection pool: each busy thread holds a connection.
+ */
+@Service
+public class ApplicationOverviewService {
+
+    private static final int DEPENDENCY_LIMIT = 50;
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private VersionService versionService;
+
+    @Autowired
+    private DeploymentService deploymentService;
+
+    @Autowired
+    private ExternalDependencyService externalDependencyService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${application.overview.threads:3}")
+    private int threads;
+
+    @Value("${application.overview.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${application.overview.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("application-overview-");
+        executor.initialize();
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // Statements of a part still running when the request gives up end at the same deadline
+        readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public ApplicationOverviewResponse getOverview(UUID applicationId) {
+        List<Future<?>> parts = new ArrayList<>();
+        try {
+            Future<ApplicationResponse> application =
+                    submit(parts, () -> applicationService.findById(applicationId));
+            Future<VersionResponse> latestVersion =
+                    submit(parts, () -> versionService.findLatestByApplication(applicationId).orElse(null));
+            Future<List<CurrentDeploymentStateResponse>> currentDeployments =
+                    submit(parts, () -> deploymentService.getCurrentState(applicationId, null));
+            Future<Page<ExternalDependencyResponse>> dependencies =
+                    submit(parts, () -> externalDependencyService.findByApplication(applicationId,
+                            PageRequest.of(0, DEPENDENCY_LIMIT, Sort.by("validityEndDate").ascending())));
+            Future<List<ApplicationContactResponse>> contacts =
+                    submit(parts, () -> applicationService.getApplicationContacts(applicationId));
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            ApplicationResponse applicationResponse = await(application, deadline);
+            VersionResponse latestVersionResponse = await(latestVersion, deadline);
+            List<CurrentDeploymentStateResponse> currentDeploymentsResponse = await(currentDeployments, deadline);
+            Page<ExternalDependencyResponse> dependencyPage = await(dependencies, deadline);
+            List<ApplicationContactResponse> contactsResponse = await(contacts, deadline);
+
+            return new ApplicationOverviewResponse(
+                applicationResponse,
+                latestVersionResponse,
+                currentDeploymentsResponse,
+                dependencyPage.getContent(),
+                dependencyPage.getTotalElements(),
+                contactsResponse
+            );
+        } catch (RuntimeException e) {
+            // Queued parts never start and running ones are interrupted, releasing their threads
+            parts.forEach(part -> part.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * Open-session-in-view does not reach pool threads, so every part gets its own transaction
+     */
+    private <T> Future<T> submit(List<Future<?>> parts, Supplier<T> task) {
+        try {
+            Future<T> future = executor.submit(() -> readOnlyTransaction.execute(status -> task.get()));
+            parts.add(future);
+            return future;
+        } catch (TaskRejectedException e) {
+            throw new ServiceUnavailableException(
+                    "Too many application overviews in progress, try again later", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException(
+                    "Application overview timed out after " + timeoutMs + " ms", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading application overview", e);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException
+                ? (RuntimeException) cause
+                : new IllegalStateException("Failed to load application overview", cause);
+    }
+}
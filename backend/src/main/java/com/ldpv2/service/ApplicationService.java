@@ -1,10 +1,13 @@
 package com.ldpv2.service;
 
+import com.ldpv2.config.CacheConfig;
 import com.ldpv2.domain.entity.Application;
 import com.ldpv2.domain.entity.ApplicationContact;
 import com.ldpv2.domain.entity.BusinessUnit;
 import com.ldpv2.domain.entity.Contact;
 import com.ldpv2.domain.enums.ApplicationStatus;
+import com.ldpv2.dto.request.BulkApplicationContactsRequest;
+import com.ldpv2.dto.request.BulkUpdateApplicationsRequest;
 import com.ldpv2.dto.request.CreateApplicationRequest;
 import com.ldpv2.dto.request.UpdateApplicationRequest;
 import com.ldpv2.dto.response.*;
@@ -13,20 +16,50 @@ import com.ldpv2.exception.ResourceNotFoundException;
 import com.ldpv2.repository.ApplicationContactRepository;
 import com.ldpv2.repository.ApplicationRepository;
 import com.ldpv2.repository.BusinessUnitRepository;
+import com.ldpv2.repository.CollectionVersionProjection;
 import com.ldpv2.repository.ContactRepository;
+import com.ldpv2.repository.SparseFieldRepository;
+import com.ldpv2.util.FieldSelection;
+import com.ldpv2.util.HttpCaching;
+import jakarta.persistence.criteria.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ApplicationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
+
+    /** ApplicationResponse fields available to sparse fieldsets, mapped to entity attributes */
+    private static final Map<String, String> SPARSE_FIELDS = new LinkedHashMap<>();
+
+    static {
+        for (String field : List.of("id", "name", "description", "status", "businessUnit.id", "businessUnit.name",
+                "endOfLifeDate", "endOfSupportDate", "createdAt", "updatedAt")) {
+            SPARSE_FIELDS.put(field, field);
+        }
+    }
+
     @Autowired
     private ApplicationRepository applicationRepository;
     
@@ -39,6 +72,9 @@ public class ApplicationService {
     @Autowired
     private ApplicationContactRepository applicationContactRepository;
 
+    @Autowired
+    private SparseFieldRepository sparseFieldRepository;
+
     @Transactional
     public ApplicationResponse create(CreateApplicationRequest request) {
         BusinessUnit businessUnit = businessUnitRepository.findById(request.getBusinessUnitId())
@@ -65,6 +101,7 @@ public class ApplicationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ApplicationResponse update(UUID id, UpdateApplicationRequest request) {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -119,6 +156,29 @@ public class ApplicationService {
         return mapToResponse(application);
     }
 
+    /**
+     * Apply a status and/or lifecycle date change to many applications at once.
+     * Selection, validation and the update itself run as a single statement in the database.
+     */
+    @Transactional
+    public BulkUpdateResponse bulkUpdate(BulkUpdateApplicationsRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!hasIds && request.getFilterStatus() == null && request.getFilterBusinessUnitId() == null) {
+            throw new BadRequestException("Either ids or a filter (status, business unit) is required");
+        }
+        if (request.getStatus() == null && request.getEndOfLifeDate() == null && request.getEndOfSupportDate() == null) {
+            throw new BadRequestException("At least one of status, endOfLifeDate or endOfSupportDate is required");
+        }
+        if (request.getEndOfSupportDate() != null && request.getEndOfLifeDate() != null
+                && request.getEndOfSupportDate().isAfter(request.getEndOfLifeDate())) {
+            throw new BadRequestException("End of support date must be before end of life date");
+        }
+
+        BulkUpdateResponse response = applicationRepository.bulkUpdate(request);
+        logger.info("Bulk updated {} applications, {} rejected", response.getAffected(), response.getRejectedIds().size());
+        return response;
+    }
+
     public ApplicationResponse findById(UUID id) {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -126,10 +186,25 @@ public class ApplicationService {
         return mapToResponse(application);
     }
 
+    /**
+     * Entity tag of the whole collection; changes whenever an application is added, updated or deleted,
+     * and when a business unit (whose name is embedded in every application) changes
+     */
+    public String getCollectionETag() {
+        CollectionVersionProjection applications = applicationRepository.findCollectionVersion();
+        CollectionVersionProjection businessUnits = businessUnitRepository.findCollectionVersion();
+        return HttpCaching.etag("applications", applications.getCount(), applications.getLastModified(),
+                businessUnits.getCount(), businessUnits.getLastModified());
+    }
+
     public Page<ApplicationResponse> findAll(Pageable pageable) {
         return applicationRepository.findAll(pageable).map(this::mapToResponse);
     }
     
+    public Slice<ApplicationResponse> findAllSlice(Pageable pageable) {
+        return applicationRepository.findAllBy(pageable).map(this::mapToResponse);
+    }
+    
     public Page<ApplicationResponse> findByStatus(ApplicationStatus status, Pageable pageable) {
         return applicationRepository.findByStatus(status, pageable).map(this::mapToResponse);
     }
@@ -145,7 +220,90 @@ public class ApplicationService {
                 .map(this::mapToResponse);
     }
 
+    public Slice<ApplicationResponse> searchSlice(ApplicationStatus status, UUID businessUnitId,
+                                                  String name, Pageable pageable) {
+        return applicationRepository.searchSlice(status, businessUnitId, name, pageable)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Same filters as {@link #search}, selecting only the requested fields
+     */
+    public Slice<Map<String, Object>> findSparse(String fields, ApplicationStatus status, UUID businessUnitId,
+                                                 String name, Pageable pageable, boolean count) {
+        FieldSelection selection = FieldSelection.parse(fields, SPARSE_FIELDS);
+        Specification<Application> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (businessUnitId != null) {
+                predicates.add(cb.equal(root.get("businessUnit").get("id"), businessUnitId));
+            }
+            if (name != null) {
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase(Locale.ROOT) + "%"));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return sparseFieldRepository.find(Application.class, selection, filter, pageable, count);
+    }
+
+    /**
+     * Full-text search over name and description, ordered by relevance.
+     * The page of ids comes from the ranked index query, then the applications are loaded in one statement.
+     */
+    public Page<ApplicationResponse> searchRanked(String query, ApplicationStatus status, UUID businessUnitId,
+                                                  Pageable pageable) {
+        String statusFilter = status != null ? status.name() : null;
+        String businessUnitFilter = businessUnitId != null ? businessUnitId.toString() : null;
+
+        long total = applicationRepository.countRanked(query, statusFilter, businessUnitFilter);
+        if (total == 0) {
+            return Page.empty(pageable);
+        }
+        List<UUID> ids = applicationRepository.searchRankedIds(
+                query, statusFilter, businessUnitFilter, pageable.getPageSize(), pageable.getOffset());
+
+        Map<UUID, Application> applications = applicationRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+        List<ApplicationResponse> content = ids.stream()
+                .map(applications::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Ranked search without the count query; one extra id is fetched to tell whether a next page exists
+     */
+    public Slice<ApplicationResponse> searchRankedSlice(String query, ApplicationStatus status, UUID businessUnitId,
+                                                        Pageable pageable) {
+        String statusFilter = status != null ? status.name() : null;
+        String businessUnitFilter = businessUnitId != null ? businessUnitId.toString() : null;
+
+        List<UUID> ids = applicationRepository.searchRankedIds(
+                query, statusFilter, businessUnitFilter, pageable.getPageSize() + 1, pageable.getOffset());
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
+        }
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Map<UUID, Application> applications = applicationRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+        List<ApplicationResponse> content = ids.stream()
+                .map(applications::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public void delete(UUID id) {
         if (!applicationRepository.existsById(id)) {
             throw new ResourceNotFoundException("Application not found with id: " + id);
@@ -154,6 +312,7 @@ public class ApplicationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ApplicationContactResponse addContact(UUID applicationId, UUID contactId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -170,6 +329,7 @@ public class ApplicationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public void removeContact(UUID applicationId, UUID contactId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -183,6 +343,33 @@ public class ApplicationService {
         applicationRepository.save(application);
     }
 
+    /**
+     * Link the contacts to the applications with one set-based INSERT, without loading any entity;
+     * existing links are left as they are
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
+    public BulkUpdateResponse linkContacts(BulkApplicationContactsRequest request) {
+        BulkUpdateResponse response = applicationRepository.linkContacts(
+                request.getApplicationIds(), request.getContactIds());
+        logger.info("Bulk linked {} application contacts, {} ids rejected",
+                response.getAffected(), response.getRejectedIds().size());
+        return response;
+    }
+
+    /**
+     * Remove the links between the contacts and the applications with one set-based DELETE
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
+    public BulkUpdateResponse unlinkContacts(BulkApplicationContactsRequest request) {
+        BulkUpdateResponse response = applicationRepository.unlinkContacts(
+                request.getApplicationIds(), request.getContactIds());
+        logger.info("Bulk unlinked {} application contacts, {} ids rejected",
+                response.getAffected(), response.getRejectedIds().size());
+        return response;
+    }
+
     public List<ApplicationContactResponse> getApplicationContacts(UUID applicationId) {
         if (!applicationRepository.existsById(applicationId)) {
             throw new ResourceNotFoundException("Application not found with id: " + applicationId);
@@ -6,7 +6,9 @@ import com.ldpv2.dto.request.UpdateBusinessUnitRequest;
 import com.ldpv2.dto.response.BusinessUnitResponse;
 import com.ldpv2.exception.BadRequestException;
 import com.ldpv2.exception.ResourceNotFoundException;
+import com.ldpv2.repository.CollectionVersionProjection;
 import com.ldpv2.repository.BusinessUnitRepository;
+import com.ldpv2.util.HttpCaching;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -63,6 +65,14 @@ public class BusinessUnitService {
         return mapToResponse(businessUnit);
     }
 
+    /**
+     * Entity tag of the whole collection; changes whenever a row is added, updated or deleted
+     */
+    public String getCollectionETag() {
+        CollectionVersionProjection version = businessUnitRepository.findCollectionVersion();
+        return HttpCaching.etag("business-units", version.getCount(), version.getLastModified());
+    }
+
     public Page<BusinessUnitResponse> findAll(Pageable pageable) {
         return businessUnitRepository.findAll(pageable).map(this::mapToResponse);
     }
@@ -0,0 +1,354 @@
+package com.ldpv2.service;
+
+import com.ldpv2.domain.entity.Application;
+import com.ldpv2.domain.entity.BusinessUnit;
+import com.ldpv2.domain.entity.Environment;
+import com.ldpv2.domain.entity.Person;
+import com.ldpv2.domain.enums.ApplicationStatus;
+import com.ldpv2.dto.response.ImportReportResponse;
+import com.ldpv2.dto.response.ImportRowResult;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.repository.CatalogImportRepository;
+import com.ldpv2.util.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bulk CSV import of catalog entities.
+ * Rows are parsed one at a time, natural keys (business unit name, email, environment name)
+ * are resolved against maps loaded once per import, and valid rows are inserted in JDBC batches.
+ * Invalid rows and rows that already exist are reported by line number and do not stop the import.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImportService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private CatalogImportRepository importRepository;
+
+    @Transactional
+    public ImportReportResponse importBusinessUnits(InputStream input) {
+        Set<String> existingNames = new HashSet<>(importRepository.findBusinessUnitIdsByName().keySet());
+        LocalDateTime now = LocalDateTime.now();
+
+        return runImport("business-units", input, List.of("name"), row -> {
+            String name = row.require("name", 255);
+            if (!existingNames.add(name.toLowerCase(Locale.ROOT))) {
+                throw RowRejectedException.skipped("Business unit already exists: " + name);
+            }
+            BusinessUnit businessUnit = new BusinessUnit();
+            businessUnit.setId(UUID.randomUUID());
+            businessUnit.setName(name);
+            businessUnit.setDescription(row.get("description"));
+            businessUnit.setCreatedAt(now);
+            businessUnit.setUpdatedAt(now);
+            return businessUnit;
+        }, importRepository::insertBusinessUnits);
+    }
+
+    @Transactional
+    public ImportReportResponse importPersons(InputStream input) {
+        Set<String> existingEmails = importRepository.findPersonEmails();
+        LocalDateTime now = LocalDateTime.now();
+
+        return runImport("persons", input, List.of("firstname", "lastname", "email"), row -> {
+            String firstName = row.require("firstname", 100);
+            String lastName = row.require("lastname", 100);
+            String email = row.require("email", 255);
+            if (!email.contains("@")) {
+                throw RowRejectedException.failed("Invalid email: " + email);
+            }
+            if (!existingEmails.add(email.toLowerCase(Locale.ROOT))) {
+                throw RowRejectedException.skipped("Person already exists with email: " + email);
+            }
+            Person person = new Person();
+            person.setId(UUID.randomUUID());
+            person.setFirstName(firstName);
+            person.setLastName(lastName);
+            person.setEmail(email);
+            person.setPhone(row.optional("phone", 50));
+            person.setCreatedAt(now);
+            person.setUpdatedAt(now);
+            return person;
+        }, importRepository::insertPersons);
+    }
+
+    @Transactional
+    public ImportReportResponse importEnvironments(InputStream input) {
+        Set<String> existingNames = importRepository.findEnvironmentNames();
+        LocalDateTime now = LocalDateTime.now();
+
+        return runImport("environments", input, List.of("name"), row -> {
+            String name = row.require("name", 100);
+            Boolean production = row.bool("isproduction");
+            Integer criticality = row.integer("criticalitylevel");
+            if (!existingNames.add(name.toLowerCase(Locale.ROOT))) {
+                throw RowRejectedException.skipped("Environment already exists: " + name);
+            }
+            Environment environment = new Environment();
+            environment.setId(UUID.randomUUID());
+            environment.setName(name);
+            environment.setDescription(row.get("description"));
+            environment.setIsProduction(production != null ? production : false);
+            environment.setCriticalityLevel(criticality);
+            environment.setCreatedAt(now);
+            environment.setUpdatedAt(now);
+            return environment;
+        }, importRepository::insertEnvironments);
+    }
+
+    @Transactional
+    public ImportReportResponse importApplications(InputStream input) {
+        Map<String, UUID> businessUnitIds = importRepository.findBusinessUnitIdsByName();
+        Set<String> existingApplications = importRepository.findApplicationKeys();
+        LocalDateTime now = LocalDateTime.now();
+
+        return runImport("applications", input, List.of("name", "status", "businessunit"), row -> {
+            String name = row.require("name", 255);
+            String statusValue = row.require("status", 50);
+            String businessUnitName = row.require("businessunit", 255);
+
+            ApplicationStatus status;
+            try {
+                // Accepts both enum names (IN_SERVICE) and display names (In Service)
+                status = ApplicationStatus.valueOf(statusValue.toUpperCase(Locale.ROOT).replace(' ', '_'));
+            } catch (IllegalArgumentException e) {
+                throw RowRejectedException.failed("Unknown status: " + statusValue);
+            }
+            UUID businessUnitId = businessUnitIds.get(businessUnitName.toLowerCase(Locale.ROOT));
+            if (businessUnitId == null) {
+                throw RowRejectedException.failed("Business unit not found: " + businessUnitName);
+            }
+            LocalDate endOfLifeDate = row.date("endoflifedate");
+            LocalDate endOfSupportDate = row.date("endofsupportdate");
+            if (endOfLifeDate != null && endOfSupportDate != null && endOfSupportDate.isAfter(endOfLifeDate)) {
+                throw RowRejectedException.failed("End of support date must be before end of life date");
+            }
+            if (!existingApplications.add(CatalogImportRepository.applicationKey(businessUnitId, name))) {
+                throw RowRejectedException.skipped(
+                        "Application already exists in business unit " + businessUnitName + ": " + name);
+            }
+
+            BusinessUnit businessUnit = new BusinessUnit();
+            businessUnit.setId(businessUnitId);
+
+            Application application = new Application();
+            application.setId(UUID.randomUUID());
+            application.setName(name);
+            application.setDescription(row.get("description"));
+            application.setStatus(status);
+            application.setBusinessUnit(businessUnit);
+            application.setEndOfLifeDate(endOfLifeDate);
+            application.setEndOfSupportDate(endOfSupportDate);
+            application.setCreatedAt(now);
+            application.setUpdatedAt(now);
+            return application;
+        }, importRepository::insertApplications);
+    }
+
+    private <T> ImportReportResponse runImport(
+            String entity,
+            InputStream input,
+            List<String> requiredColumns,
+            Function<ImportRow, T> rowMapper,
+            Consumer<List<T>> batchWriter) {
+        List<ImportRowResult> rejectedRows = new ArrayList<>();
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        int total = 0;
+        int imported = 0;
+        int skipped = 0;
+        int failed = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvReader csvReader = new CsvReader(reader);
+            Map<String, Integer> columns = readHeader(csvReader.readRow());
+            for (String column : requiredColumns) {
+                if (!columns.containsKey(column)) {
+                    throw new BadRequestException("Missing required column: " + column);
+                }
+            }
+
+            List<String> values;
+            while ((values = csvReader.readRow()) != null) {
+                if (values.size() == 1 && values.get(0).isBlank()) {
+                    continue;
+                }
+                total++;
+                try {
+                    batch.add(rowMapper.apply(new ImportRow(columns, values)));
+                    imported++;
+                } catch (RowRejectedException e) {
+                    rejectedRows.add(new ImportRowResult(csvReader.getRowLine(), e.getStatus(), e.getMessage()));
+                    if (RowRejectedException.SKIPPED.equals(e.getStatus())) {
+                        skipped++;
+                    } else {
+                        failed++;
+                    }
+                    continue;
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    batchWriter.accept(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchWriter.accept(batch);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read CSV file: " + e.getMessage());
+        }
+
+        logger.info("Imported {} of {} {} rows ({} skipped, {} failed)", imported, total, entity, skipped, failed);
+        return new ImportReportResponse(entity, total, imported, skipped, failed, rejectedRows);
+    }
+
+    /**
+     * Header names are matched ignoring case, spaces, dashes and underscores, so
+     * "End of life date", "end_of_life_date" and "endOfLifeDate" are the same column
+     */
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            columns.putIfAbsent(normalizeColumn(name), i);
+        }
+        return columns;
+    }
+
+    private static String normalizeColumn(String name) {
+        return name.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class ImportRow {
+        private final Map<String, Integer> columns;
+        private final List<String> values;
+
+        ImportRow(Map<String, Integer> columns, List<String> values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        String require(String column, int maxLength) {
+            String value = get(column);
+            if (value == null) {
+                throw RowRejectedException.failed("Missing value for " + column);
+            }
+            return checkLength(column, value, maxLength);
+        }
+
+        String optional(String column, int maxLength) {
+            String value = get(column);
+            return value == null ? null : checkLength(column, value, maxLength);
+        }
+
+        LocalDate date(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw RowRejectedException.failed("Invalid date for " + column + ": " + value + " (expected yyyy-MM-dd)");
+            }
+        }
+
+        Integer integer(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw RowRejectedException.failed("Invalid number for " + column + ": " + value);
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "true": case "yes": case "y": case "1":
+                    return true;
+                case "false": case "no": case "n": case "0":
+                    return false;
+                default:
+                    throw RowRejectedException.failed("Invalid boolean for " + column + ": " + value);
+            }
+        }
+
+        private String checkLength(String column, String value, int maxLength) {
+            if (value.length() > maxLength) {
+                throw RowRejectedException.failed(column + " must not exceed " + maxLength + " characters");
+            }
+            return value;
+        }
+    }
+
+    private static class RowRejectedException extends RuntimeException {
+        static final String SKIPPED = "SKIPPED";
+        static final String FAILED = "FAILED";
+
+        private final String status;
+
+        private RowRejectedException(String status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        static RowRejectedException skipped(String message) {
+            return new RowRejectedException(SKIPPED, message);
+        }
+
+        static RowRejectedException failed(String message) {
+            return new RowRejectedException(FAILED, message);
+        }
+
+        String getStatus() {
+            return status;
+        }
+    }
+}
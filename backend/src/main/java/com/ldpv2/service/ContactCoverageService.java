@@ -0,0 +1,52 @@
+package com.ldpv2.service;
+
+import com.ldpv2.dto.response.ContactCoverageGapResponse;
+import com.ldpv2.dto.response.ContactCoverageResponse;
+import com.ldpv2.exception.ResourceNotFoundException;
+import com.ldpv2.repository.ApplicationRepository;
+import com.ldpv2.repository.ContactRoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Which applications lack a contact in a given role, answered with set-based anti-joins
+ * instead of reading the contacts of each application
+ */
+@Service
+public class ContactCoverageService {
+
+    @Autowired
+    private ContactRoleRepository contactRoleRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    /**
+     * Covered and missing application counts for every contact role, optionally within one business unit
+     */
+    public List<ContactCoverageResponse> getCoverage(UUID businessUnitId) {
+        String businessUnitFilter = businessUnitId != null ? businessUnitId.toString() : null;
+        return contactRoleRepository.findCoverage(businessUnitFilter).stream()
+                .map(row -> new ContactCoverageResponse(
+                    row.getRoleId(),
+                    row.getRoleName(),
+                    row.getTotalApplications(),
+                    row.getTotalApplications() - row.getMissingApplications(),
+                    row.getMissingApplications()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    public Page<ContactCoverageGapResponse> findGaps(UUID contactRoleId, UUID businessUnitId, Pageable pageable) {
+        if (!contactRoleRepository.existsById(contactRoleId)) {
+            throw new ResourceNotFoundException("Contact role not found with id: " + contactRoleId);
+        }
+        return applicationRepository.findMissingContactRole(contactRoleId, businessUnitId, pageable);
+    }
+}
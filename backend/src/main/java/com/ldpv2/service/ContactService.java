@@ -1,61 +1,90 @@
 package com.ldpv2.service;
 
+import com.ldpv2.config.CacheConfig;
 import com.ldpv2.domain.entity.Contact;
 import com.ldpv2.domain.entity.ContactPerson;
 import com.ldpv2.domain.entity.ContactRole;
 import com.ldpv2.domain.entity.Person;
 import com.ldpv2.dto.request.CreateContactRequest;
+import com.ldpv2.dto.request.ReplaceContactPersonsRequest;
 import com.ldpv2.dto.response.ContactResponse;
 import com.ldpv2.dto.response.ContactRoleResponse;
 import com.ldpv2.dto.response.PersonInContactResponse;
 import com.ldpv2.dto.response.PersonResponse;
 import com.ldpv2.exception.BadRequestException;
 import com.ldpv2.exception.ResourceNotFoundException;
+import com.ldpv2.repository.ContactPersonRepository;
 import com.ldpv2.repository.ContactRepository;
 import com.ldpv2.repository.ContactRoleRepository;
 import com.ldpv2.repository.PersonRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ContactService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ContactService.class);
+
     @Autowired
     private ContactRepository contactRepository;
 
     @Autowired
     private ContactRoleRepository contactRoleRepository;
 
+    @Autowired
+    private ContactPersonRepository contactPersonRepository;
+
     @Autowired
     private PersonRepository personRepository;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ContactResponse create(CreateContactRequest request) {
         ContactRole role = contactRoleRepository.findById(request.getContactRoleId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                     "Contact role not found with id: " + request.getContactRoleId()));
 
-        if (!request.getPersonIds().contains(request.getPrimaryPersonId())) {
+        Set<UUID> personIds = new LinkedHashSet<>(request.getPersonIds());
+        if (!personIds.contains(request.getPrimaryPersonId())) {
             throw new BadRequestException("Primary person must be in the list of persons");
         }
+        List<Person> persons = findPersons(personIds);
 
         Contact contact = new Contact();
         contact.setContactRole(role);
+        contact = contactRepository.saveAndFlush(contact);
+        contactPersonRepository.insertPersons(contact.getId(), personIds, request.getPrimaryPersonId());
 
-        for (UUID personId : request.getPersonIds()) {
-            Person person = personRepository.findById(personId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Person not found with id: " + personId));
-            boolean isPrimary = personId.equals(request.getPrimaryPersonId());
-            contact.addPerson(person, isPrimary);
+        // The rows were written through JDBC; build the response from what was inserted
+        List<ContactPerson> contactPersons = new ArrayList<>();
+        for (Person person : persons) {
+            ContactPerson contactPerson = new ContactPerson();
+            contactPerson.setContact(contact);
+            contactPerson.setPerson(person);
+            contactPerson.setPrimary(person.getId().equals(request.getPrimaryPersonId()));
+            contactPersons.add(contactPerson);
         }
-
-        contact = contactRepository.save(contact);
-        return mapToResponse(contact);
+        return mapToResponse(contact, contactPersons);
     }
 
     public ContactResponse findById(UUID id) {
@@ -66,39 +95,95 @@ public class ContactService {
         return mapToResponse(contact);
     }
 
-    public List<ContactResponse> findAll() {
-        return contactRepository.findAllWithDetails().stream()
-                .map(this::mapToResponse)
+    /**
+     * One page of contacts in a fixed number of statements: the page of ids and its count,
+     * then the contacts with their role and the contact persons with their person, each by IN on those ids.
+     * Paging ids instead of a fetch-joined graph keeps memory bounded by the page size.
+     */
+    @Transactional(readOnly = true)
+    public Page<ContactResponse> findAll(UUID contactRoleId, String name, UUID excludeApplicationId, Pageable pageable) {
+        String pattern = name == null || name.isBlank()
+                ? null
+                : "%" + escapeLike(name.trim().toLowerCase(Locale.ROOT)) + "%";
+        Page<UUID> ids = contactRepository.findPageIds(contactRoleId, pattern, excludeApplicationId, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<UUID, Contact> contacts = contactRepository.findWithRoleByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Contact::getId, Function.identity()));
+        Map<UUID, List<ContactPerson>> personsByContact = contactPersonRepository
+                .findWithPersonByContactIdIn(ids.getContent()).stream()
+                .collect(Collectors.groupingBy(cp -> cp.getId().getContactId()));
+
+        List<ContactResponse> content = ids.getContent().stream()
+                .map(contacts::get)
+                .filter(Objects::nonNull)
+                .map(contact -> mapToResponse(contact,
+                        personsByContact.getOrDefault(contact.getId(), List.of())))
                 .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ContactResponse addPerson(UUID contactId, UUID personId, boolean isPrimary) {
-        Contact contact = contactRepository.findById(contactId)
-                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
-
-        Person person = personRepository.findById(personId)
-                .orElseThrow(() -> new ResourceNotFoundException("Person not found with id: " + personId));
+        checkContactExists(contactId);
+        if (!personRepository.existsById(personId)) {
+            throw new ResourceNotFoundException("Person not found with id: " + personId);
+        }
+        if (contactPersonRepository.existsById(new ContactPerson.ContactPersonId(contactId, personId))) {
+            throw new BadRequestException("Person is already in contact");
+        }
 
-        contact.addPerson(person, isPrimary);
-        contact = contactRepository.save(contact);
-        return mapToResponse(contact);
+        contactPersonRepository.insertPersons(contactId, List.of(personId), isPrimary ? personId : null);
+        return findById(contactId);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ContactResponse removePerson(UUID contactId, UUID personId) {
-        Contact contact = contactRepository.findById(contactId)
-                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+        checkContactExists(contactId);
+        if (!personRepository.existsById(personId)) {
+            throw new ResourceNotFoundException("Person not found with id: " + personId);
+        }
 
-        Person person = personRepository.findById(personId)
-                .orElseThrow(() -> new ResourceNotFoundException("Person not found with id: " + personId));
+        contactPersonRepository.deletePersons(contactId, List.of(personId));
+        return findById(contactId);
+    }
 
-        contact.removePerson(person);
-        contact = contactRepository.save(contact);
-        return mapToResponse(contact);
+    /**
+     * Replace the persons of a contact with the requested set in one transaction.
+     * Only the difference with the current membership is written: removed persons are deleted
+     * and added persons inserted in JDBC batches, then the primary flag is set in one update.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
+    public ContactResponse replacePersons(UUID contactId, ReplaceContactPersonsRequest request) {
+        checkContactExists(contactId);
+
+        Set<UUID> requested = new LinkedHashSet<>(request.getPersonIds());
+        if (!requested.contains(request.getPrimaryPersonId())) {
+            throw new BadRequestException("Primary person must be in the list of persons");
+        }
+
+        Set<UUID> current = contactPersonRepository.findPersonIdsByContactId(contactId);
+        Set<UUID> removed = new HashSet<>(current);
+        removed.removeAll(requested);
+        Set<UUID> added = new LinkedHashSet<>(requested);
+        added.removeAll(current);
+
+        findPersons(added);
+        contactPersonRepository.deletePersons(contactId, removed);
+        contactPersonRepository.insertPersons(contactId, added, request.getPrimaryPersonId());
+        contactPersonRepository.setPrimary(contactId, request.getPrimaryPersonId());
+
+        logger.info("Replaced persons of contact {}: {} added, {} removed", contactId, added.size(), removed.size());
+        return findById(contactId);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public ContactResponse setPrimary(UUID contactId, UUID personId) {
         Contact contact = contactRepository.findByIdWithDetails(contactId);
         if (contact == null) {
@@ -124,6 +209,7 @@ public class ContactService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public void delete(UUID id) {
         if (!contactRepository.existsById(id)) {
             throw new ResourceNotFoundException("Contact not found with id: " + id);
@@ -131,7 +217,37 @@ public class ContactService {
         contactRepository.deleteById(id);
     }
 
+    private void checkContactExists(UUID contactId) {
+        if (!contactRepository.existsById(contactId)) {
+            throw new ResourceNotFoundException("Contact not found with id: " + contactId);
+        }
+    }
+
+    /**
+     * Load the persons with one query, failing on the first id that does not exist
+     */
+    private List<Person> findPersons(Collection<UUID> personIds) {
+        if (personIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Person> persons = personRepository.findAllById(personIds).stream()
+                .collect(Collectors.toMap(Person::getId, Function.identity()));
+        List<Person> ordered = new ArrayList<>(personIds.size());
+        for (UUID personId : personIds) {
+            Person person = persons.get(personId);
+            if (person == null) {
+                throw new ResourceNotFoundException("Person not found with id: " + personId);
+            }
+            ordered.add(person);
+        }
+        return ordered;
+    }
+
     private ContactResponse mapToResponse(Contact contact) {
+        return mapToResponse(contact, contact.getContactPersons());
+    }
+
+    private ContactResponse mapToResponse(Contact contact, Collection<ContactPerson> contactPersons) {
         ContactRoleResponse roleResponse = new ContactRoleResponse(
             contact.getContactRole().getId(),
             contact.getContactRole().getRoleName(),
@@ -140,7 +256,7 @@ public class ContactService {
             contact.getContactRole().getUpdatedAt()
         );
 
-        List<PersonInContactResponse> personsResponse = contact.getContactPersons().stream()
+        List<PersonInContactResponse> personsResponse = contactPersons.stream()
                 .map(cp -> {
                     PersonResponse personResponse = new PersonResponse(
                         cp.getPerson().getId(),
@@ -163,4 +279,8 @@ public class ContactService {
             contact.getUpdatedAt()
         );
     }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
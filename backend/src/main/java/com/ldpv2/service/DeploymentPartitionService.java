@@ -0,0 +1,188 @@
+package com.ldpv2.service;
+
+import com.ldpv2.dto.response.MaintenanceResultResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the monthly range partitions of the deployment table:
+ * creates upcoming months ahead of time and detaches months past the retention window.
+ * Rows that landed in the default partition before their month existed (e.g. deployments
+ * recorded far ahead) are moved into the month's partition when it is created.
+ */
+@Service
+public class DeploymentPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentPartitionService.class);
+
+    private static final String PARTITION_PREFIX = "deployment_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("uuuu_MM");
+    private static final String DEFAULT_PARTITION = "deployment_default";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${deployment.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    /** Months of history kept attached; 0 keeps everything */
+    @Value("${deployment.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${deployment.partitions.maintenance-cron:0 0 3 * * *}")
+    public void scheduledMaintenance() {
+        maintainPartitions();
+    }
+
+    public MaintenanceResultResponse maintainPartitions() {
+        if (!isPartitioned()) {
+            logger.debug("Deployment table is not partitioned, skipping partition maintenance");
+            return new MaintenanceResultResponse("maintain-deployment-partitions", 0, LocalDateTime.now());
+        }
+
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                if (createPartition(month)) {
+                    created++;
+                }
+            } catch (DataAccessException | TransactionException e) {
+                String failure = "Could not create deployment partition " + partitionName(month) + ": "
+                        + e.getMostSpecificCause().getMessage();
+                logger.error(failure);
+                failures.add(failure);
+            }
+        }
+
+        int detached = 0;
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (String partition : findPartitions()) {
+                YearMonth month = parseMonth(partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    jdbcTemplate.execute("ALTER TABLE deployment DETACH PARTITION " + partition);
+                    logger.info("Detached deployment partition {}", partition);
+                    detached++;
+                }
+            }
+        }
+
+        if (created > 0 || detached > 0) {
+            logger.info("Deployment partition maintenance: {} created, {} detached", created, detached);
+        }
+        return new MaintenanceResultResponse(
+                "maintain-deployment-partitions", created + detached, LocalDateTime.now(), failures);
+    }
+
+    /**
+     * Creates the month's partition in one transaction. A partition cannot be attached while the
+     * default partition holds rows of its range, so those rows are moved with the default detached.
+     */
+    private boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        List<String> partitions = findPartitions();
+        if (partitions.contains(name)) {
+            return false;
+        }
+        boolean hasDefault = partitions.contains(DEFAULT_PARTITION);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        String create = String.format(
+                "CREATE TABLE %s PARTITION OF deployment FOR VALUES FROM ('%s') TO ('%s')",
+                name, from.toLocalDate(), to.toLocalDate());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (!hasDefault) {
+                jdbcTemplate.execute(create);
+                return;
+            }
+            // Keeps new rows of the range out of the default partition until the move is done
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN SHARE ROW EXCLUSIVE MODE");
+            Boolean misplaced = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION +
+                    " WHERE deployment_date >= ? AND deployment_date < ?)",
+                    Boolean.class, from, to);
+            if (!Boolean.TRUE.equals(misplaced)) {
+                jdbcTemplate.execute(create);
+                return;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE deployment DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute(create);
+            int moved = jdbcTemplate.update(
+                    "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION +
+                    " WHERE deployment_date >= ? AND deployment_date < ? RETURNING *) " +
+                    "INSERT INTO " + name + " SELECT * FROM moved",
+                    from, to);
+            jdbcTemplate.execute("ALTER TABLE deployment ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            logger.info("Moved {} deployments from {} to {}", moved, DEFAULT_PARTITION, name);
+        });
+        return true;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private boolean isPartitioned() {
+        try {
+            Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = 'deployment' AND pg_table_is_visible(c.oid))",
+                Boolean.class);
+            return Boolean.TRUE.equals(partitioned);
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'deployment' AND pg_table_is_visible(p.oid)",
+            String.class);
+    }
+
+    private YearMonth parseMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,33 +1,115 @@
 package com.ldpv2.service;
 
+import com.ldpv2.config.CacheConfig;
 import com.ldpv2.domain.entity.Application;
 import com.ldpv2.domain.entity.Deployment;
+import com.ldpv2.domain.entity.DeploymentCurrent;
+import com.ldpv2.domain.entity.DeploymentIdempotencyKey;
 import com.ldpv2.domain.entity.Environment;
 import com.ldpv2.domain.entity.Version;
+import com.ldpv2.domain.enums.ApplicationStatus;
+import com.ldpv2.domain.enums.DriftStatus;
+import com.ldpv2.domain.enums.ExportFormat;
+import com.ldpv2.event.DeploymentRecordedEvent;
+import com.ldpv2.dto.request.RecordDeploymentBatchRequest;
 import com.ldpv2.dto.request.RecordDeploymentRequest;
 import com.ldpv2.dto.response.*;
 import com.ldpv2.exception.BadRequestException;
 import com.ldpv2.exception.ResourceNotFoundException;
 import com.ldpv2.repository.ApplicationRepository;
+import com.ldpv2.repository.DeploymentCurrentRepository;
+import com.ldpv2.repository.DeploymentDailyRollupRepository;
+import com.ldpv2.repository.DeploymentIdempotencyKeyRepository;
 import com.ldpv2.repository.DeploymentRepository;
 import com.ldpv2.repository.EnvironmentRepository;
+import com.ldpv2.repository.SparseFieldRepository;
 import com.ldpv2.repository.VersionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldpv2.util.CsvWriter;
+import com.ldpv2.util.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class DeploymentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentService.class);
+
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    /** DeploymentResponse fields available to sparse fieldsets, mapped to entity attributes */
+    private static final Map<String, String> SPARSE_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SPARSE_FIELDS.put("id", "id");
+        SPARSE_FIELDS.put("application.id", "application.id");
+        SPARSE_FIELDS.put("application.name", "application.name");
+        SPARSE_FIELDS.put("application.status", "application.status");
+        SPARSE_FIELDS.put("application.businessUnitName", "application.businessUnit.name");
+        SPARSE_FIELDS.put("version.id", "version.id");
+        SPARSE_FIELDS.put("version.versionIdentifier", "version.versionIdentifier");
+        SPARSE_FIELDS.put("version.releaseDate", "version.releaseDate");
+        SPARSE_FIELDS.put("environment.id", "environment.id");
+        SPARSE_FIELDS.put("environment.name", "environment.name");
+        SPARSE_FIELDS.put("environment.isProduction", "environment.isProduction");
+        SPARSE_FIELDS.put("deploymentDate", "deploymentDate");
+        SPARSE_FIELDS.put("deployedBy", "deployedBy");
+        SPARSE_FIELDS.put("notes", "notes");
+        SPARSE_FIELDS.put("createdAt", "createdAt");
+    }
+
     @Autowired
     private DeploymentRepository deploymentRepository;
+
+    @Autowired
+    private SparseFieldRepository sparseFieldRepository;
+    
+    @Autowired
+    private DeploymentCurrentRepository deploymentCurrentRepository;
+    
+    @Autowired
+    private DeploymentDailyRollupRepository deploymentDailyRollupRepository;
     
     @Autowired
     private ApplicationRepository applicationRepository;
@@ -38,8 +120,53 @@ public class DeploymentService {
     @Autowired
     private EnvironmentRepository environmentRepository;
 
+    @Autowired
+    private DeploymentStreamService deploymentStreamService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DeploymentIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${deployment.idempotency.retention-days:7}")
+    private int idempotencyRetentionDays;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Record a single deployment.
+     * When an idempotency key is given and was used before, the originally recorded
+     * deployment is returned without validating or inserting again.
+     */
     @Transactional
-    public DeploymentResponse recordDeployment(RecordDeploymentRequest request) {
+    public DeploymentResponse recordDeployment(RecordDeploymentRequest request, String idempotencyKey) {
+        String key = resolveIdempotencyKey(idempotencyKey, request);
+        if (key != null) {
+            DeploymentResponse recorded = findRecordedByKey(key);
+            if (recorded != null) {
+                return recorded;
+            }
+            if (idempotencyKeyRepository.claim(key) == 0) {
+                // A concurrent request with the same key committed first
+                recorded = findRecordedByKey(key);
+                if (recorded == null) {
+                    throw new BadRequestException("A request with this idempotency key is already being processed");
+                }
+                return recorded;
+            }
+        }
+
         // Validate application exists
         Application application = applicationRepository.findById(request.getApplicationId())
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -74,8 +201,134 @@ public class DeploymentService {
         deployment.setDeployedBy(request.getDeployedBy());
         deployment.setNotes(request.getNotes());
 
-        deployment = deploymentRepository.save(deployment);
-        return mapToResponse(deployment);
+        deployment = deploymentRepository.saveAndFlush(deployment);
+        refreshReadModels(List.of(deployment.getId()));
+
+        DeploymentResponse response = mapToResponse(deployment);
+        if (key != null) {
+            idempotencyKeyRepository.assignDeployment(key, deployment.getId());
+            idempotencyCache().put(key, response);
+        }
+        eventPublisher.publishEvent(new DeploymentRecordedEvent(List.of(response)));
+        return response;
+    }
+
+    /**
+     * Record many deployments at once.
+     * All referenced ids are resolved with one query per entity type, invalid items are
+     * reported individually and the valid ones are inserted with JDBC batching.
+     */
+    @Transactional
+    public DeploymentBatchResponse recordDeployments(RecordDeploymentBatchRequest request) {
+        List<RecordDeploymentRequest> items = request.getDeployments();
+
+        Set<UUID> applicationIds = new HashSet<>();
+        Set<UUID> versionIds = new HashSet<>();
+        Set<UUID> environmentIds = new HashSet<>();
+        for (RecordDeploymentRequest item : items) {
+            if (item == null) {
+                continue;
+            }
+            if (item.getApplicationId() != null) {
+                applicationIds.add(item.getApplicationId());
+            }
+            if (item.getVersionId() != null) {
+                versionIds.add(item.getVersionId());
+            }
+            if (item.getEnvironmentId() != null) {
+                environmentIds.add(item.getEnvironmentId());
+            }
+        }
+
+        Set<UUID> existingApplications = applicationIds.isEmpty()
+                ? Set.of() : applicationRepository.findExistingIds(applicationIds);
+        Set<UUID> existingEnvironments = environmentIds.isEmpty()
+                ? Set.of() : environmentRepository.findExistingIds(environmentIds);
+        Map<UUID, UUID> versionApplications = versionIds.isEmpty()
+                ? Map.of() : versionRepository.findApplicationRefsByIdIn(versionIds).stream()
+                        .collect(Collectors.toMap(
+                                VersionRepository.VersionApplicationRef::getId,
+                                VersionRepository.VersionApplicationRef::getApplicationId));
+
+        Set<String> keys = items.stream()
+                .filter(item -> item != null && StringUtils.hasText(item.getIdempotencyKey()))
+                .map(RecordDeploymentRequest::getIdempotencyKey)
+                .collect(Collectors.toSet());
+        Map<String, UUID> knownKeys = new HashMap<>();
+        if (!keys.isEmpty()) {
+            for (DeploymentIdempotencyKey known : idempotencyKeyRepository.findAllById(keys)) {
+                knownKeys.put(known.getIdempotencyKey(), known.getDeploymentId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Deployment> deployments = new ArrayList<>();
+        List<DeploymentBatchItemResult> results = new ArrayList<>(items.size());
+        Map<String, UUID> claimedKeys = new HashMap<>();
+        Map<String, DeploymentBatchItemResult> claimedResults = new HashMap<>();
+        int failed = 0;
+        int duplicates = 0;
+
+        for (int index = 0; index < items.size(); index++) {
+            RecordDeploymentRequest item = items.get(index);
+            String key = item != null && StringUtils.hasText(item.getIdempotencyKey()) ? item.getIdempotencyKey() : null;
+            if (key != null && (knownKeys.containsKey(key) || claimedKeys.containsKey(key))) {
+                UUID originalId = knownKeys.containsKey(key) ? knownKeys.get(key) : claimedKeys.get(key);
+                results.add(new DeploymentBatchItemResult(index, originalId, "DUPLICATE", null));
+                duplicates++;
+                continue;
+            }
+
+            String error = validateBatchItem(item, existingApplications, existingEnvironments,
+                    versionApplications, now);
+            if (error != null) {
+                results.add(new DeploymentBatchItemResult(index, null, "FAILED", error));
+                failed++;
+                continue;
+            }
+
+            Deployment deployment = newDeployment(item, now);
+            deployments.add(deployment);
+            DeploymentBatchItemResult result = new DeploymentBatchItemResult(index, deployment.getId(), "RECORDED", null);
+            results.add(result);
+            if (key != null) {
+                claimedKeys.put(key, deployment.getId());
+                claimedResults.put(key, result);
+            }
+        }
+
+        if (!claimedKeys.isEmpty()) {
+            // Keys claimed by a concurrent request in the meantime keep their original deployment
+            idempotencyKeyRepository.claimAll(claimedKeys);
+            Set<UUID> lostDeployments = new HashSet<>();
+            for (DeploymentIdempotencyKey stored : idempotencyKeyRepository.findAllById(claimedKeys.keySet())) {
+                UUID claimedId = claimedKeys.get(stored.getIdempotencyKey());
+                if (!claimedId.equals(stored.getDeploymentId())) {
+                    lostDeployments.add(claimedId);
+                    DeploymentBatchItemResult result = claimedResults.get(stored.getIdempotencyKey());
+                    result.setDeploymentId(stored.getDeploymentId());
+                    result.setStatus("DUPLICATE");
+                    duplicates++;
+                }
+            }
+            deployments.removeIf(deployment -> lostDeployments.contains(deployment.getId()));
+        }
+
+        if (!deployments.isEmpty()) {
+            deploymentRepository.batchInsert(deployments);
+            List<UUID> deploymentIds = deployments.stream().map(Deployment::getId).collect(Collectors.toList());
+            refreshReadModels(deploymentIds);
+
+            // Only hydrate the inserted rows when someone is listening
+            if (deploymentStreamService.hasSubscribers()) {
+                List<DeploymentResponse> recorded = deploymentRepository.findWithDetailsByIdIn(deploymentIds).stream()
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList());
+                eventPublisher.publishEvent(new DeploymentRecordedEvent(recorded));
+            }
+        }
+
+        return new DeploymentBatchResponse(items.size(), deployments.size(), failed, duplicates, results);
     }
 
     public DeploymentResponse findById(UUID id) {
@@ -89,6 +342,10 @@ public class DeploymentService {
         return deploymentRepository.findAll(pageable).map(this::mapToResponse);
     }
     
+    public Slice<DeploymentResponse> findAllSlice(Pageable pageable) {
+        return deploymentRepository.findAllBy(pageable).map(this::mapToResponse);
+    }
+    
     public Page<DeploymentResponse> findByApplication(UUID applicationId, Pageable pageable) {
         if (!applicationRepository.existsById(applicationId)) {
             throw new ResourceNotFoundException(
@@ -107,6 +364,41 @@ public class DeploymentService {
                 .map(this::mapToResponse);
     }
     
+    /**
+     * Same filters as {@link #search}, selecting only the requested fields
+     */
+    public Slice<Map<String, Object>> findSparse(
+            String fields,
+            UUID applicationId,
+            UUID environmentId,
+            UUID versionId,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            Pageable pageable,
+            boolean count) {
+        FieldSelection selection = FieldSelection.parse(fields, SPARSE_FIELDS);
+        Specification<Deployment> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (applicationId != null) {
+                predicates.add(cb.equal(root.get("application").get("id"), applicationId));
+            }
+            if (environmentId != null) {
+                predicates.add(cb.equal(root.get("environment").get("id"), environmentId));
+            }
+            if (versionId != null) {
+                predicates.add(cb.equal(root.get("version").get("id"), versionId));
+            }
+            if (dateFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("deploymentDate"), dateFrom));
+            }
+            if (dateTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("deploymentDate"), dateTo));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return sparseFieldRepository.find(Deployment.class, selection, filter, pageable, count);
+    }
+
     public Page<DeploymentResponse> search(
             UUID applicationId, 
             UUID environmentId, 
@@ -119,13 +411,363 @@ public class DeploymentService {
                 .map(this::mapToResponse);
     }
     
+    public Slice<DeploymentResponse> searchSlice(
+            UUID applicationId, 
+            UUID environmentId, 
+            UUID versionId,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            Pageable pageable) {
+        return deploymentRepository.searchSlice(
+                applicationId, environmentId, versionId, dateFrom, dateTo, pageable)
+                .map(this::mapToResponse);
+    }
+    
+    /**
+     * Keyset pagination over the deployment history, newest first.
+     * The cursor is an opaque token returned by the previous page.
+     */
+    public CursorPageResponse<DeploymentResponse> searchByCursor(
+            UUID applicationId,
+            UUID environmentId,
+            UUID versionId,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            String cursor,
+            int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        
+        Limit limit = Limit.of(size + 1);
+        List<Deployment> deployments;
+        if (cursor == null || cursor.isBlank()) {
+            deployments = deploymentRepository.searchFirst(
+                    applicationId, environmentId, versionId, dateFrom, dateTo, limit);
+        } else {
+            DeploymentCursor position = decodeCursor(cursor);
+            deployments = deploymentRepository.searchAfter(
+                    applicationId, environmentId, versionId, dateFrom, dateTo,
+                    position.deploymentDate(), position.id(), limit);
+        }
+        
+        boolean hasNext = deployments.size() > size;
+        if (hasNext) {
+            deployments = deployments.subList(0, size);
+        }
+        
+        String nextCursor = hasNext ? encodeCursor(deployments.get(deployments.size() - 1)) : null;
+        List<DeploymentResponse> content = deployments.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, size, hasNext, nextCursor);
+    }
+    
+    public CursorPageResponse<DeploymentResponse> findByApplicationByCursor(UUID applicationId, String cursor, int size) {
+        if (!applicationRepository.existsById(applicationId)) {
+            throw new ResourceNotFoundException(
+                    "Application not found with id: " + applicationId);
+        }
+        return searchByCursor(applicationId, null, null, null, null, cursor, size);
+    }
+    
+    public CursorPageResponse<DeploymentResponse> findByEnvironmentByCursor(UUID environmentId, String cursor, int size) {
+        if (!environmentRepository.existsById(environmentId)) {
+            throw new ResourceNotFoundException(
+                    "Environment not found with id: " + environmentId);
+        }
+        return searchByCursor(null, environmentId, null, null, null, cursor, size);
+    }
+    
+    /**
+     * Stream the filtered deployment history to the given output.
+     * Rows are read forward-only and the persistence context is cleared periodically,
+     * so memory use does not grow with the number of exported rows.
+     */
+    @Transactional(readOnly = true)
+    public void exportDeployments(
+            UUID applicationId,
+            UUID environmentId,
+            UUID versionId,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            ExportFormat format,
+            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        CsvWriter csvWriter = new CsvWriter(writer);
+        if (format == ExportFormat.CSV) {
+            csvWriter.writeRow("id", "applicationId", "applicationName", "businessUnitName",
+                    "versionId", "versionIdentifier", "environmentId", "environmentName",
+                    "isProduction", "deploymentDate", "deployedBy", "notes");
+        }
+        
+        try (Stream<Deployment> deployments = deploymentRepository.streamForExport(
+                applicationId, environmentId, versionId, dateFrom, dateTo)) {
+            int count = 0;
+            for (Deployment deployment : (Iterable<Deployment>) deployments::iterator) {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(csvWriter, deployment);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(mapToResponse(deployment)));
+                    writer.write('\n');
+                }
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+    
     public List<CurrentDeploymentStateResponse> getCurrentState(UUID applicationId, UUID environmentId) {
-        List<Deployment> deployments = deploymentRepository.findCurrentState(applicationId, environmentId);
-        return deployments.stream()
+        List<DeploymentCurrent> currentState = deploymentCurrentRepository.findCurrentState(applicationId, environmentId);
+        return currentState.stream()
                 .map(this::mapToCurrentStateResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Version of every application running in an environment at the given moment
+     */
+    public List<CurrentDeploymentStateResponse> getStateAt(LocalDateTime timestamp, UUID environmentId) {
+        List<DeploymentRepository.DeploymentStateRow> rows = deploymentRepository.findStateAt(environmentId, timestamp);
+        // An unknown environment and an empty one both come back without rows
+        if (rows.isEmpty() && !environmentRepository.existsById(environmentId)) {
+            throw new ResourceNotFoundException("Environment not found with id: " + environmentId);
+        }
+        return rows.stream()
+                .map(this::mapToStateResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Compare the current state of two environments application by application.
+     * Both environments are read in one query and merged on application id.
+     */
+    public DeploymentDriftResponse getDrift(UUID sourceEnvironmentId, UUID targetEnvironmentId, boolean includeEqual) {
+        if (sourceEnvironmentId.equals(targetEnvironmentId)) {
+            throw new BadRequestException("Source and target environments must be different");
+        }
+        Environment source = environmentRepository.findById(sourceEnvironmentId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Environment not found with id: " + sourceEnvironmentId));
+        Environment target = environmentRepository.findById(targetEnvironmentId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Environment not found with id: " + targetEnvironmentId));
+
+        // Rows arrive ordered by application name, which the linked map preserves
+        Map<UUID, ApplicationSummaryResponse> applications = new LinkedHashMap<>();
+        Map<UUID, CurrentDeploymentStateResponse> sourceState = new HashMap<>();
+        Map<UUID, CurrentDeploymentStateResponse> targetState = new HashMap<>();
+        List<DeploymentCurrent> rows = deploymentCurrentRepository.findByEnvironmentIds(
+                List.of(sourceEnvironmentId, targetEnvironmentId));
+        for (DeploymentCurrent row : rows) {
+            CurrentDeploymentStateResponse state = mapToCurrentStateResponse(row);
+            UUID applicationId = state.getApplication().getId();
+            applications.putIfAbsent(applicationId, state.getApplication());
+            if (sourceEnvironmentId.equals(state.getEnvironment().getId())) {
+                sourceState.put(applicationId, state);
+            } else {
+                targetState.put(applicationId, state);
+            }
+        }
+
+        Map<DriftStatus, Long> summary = new EnumMap<>(DriftStatus.class);
+        for (DriftStatus status : DriftStatus.values()) {
+            summary.put(status, 0L);
+        }
+        List<ApplicationDriftResponse> differences = new ArrayList<>();
+        for (ApplicationSummaryResponse application : applications.values()) {
+            CurrentDeploymentStateResponse inSource = sourceState.get(application.getId());
+            CurrentDeploymentStateResponse inTarget = targetState.get(application.getId());
+            DriftStatus status = compareStates(inSource, inTarget);
+            summary.merge(status, 1L, Long::sum);
+            if (status == DriftStatus.EQUAL && !includeEqual) {
+                continue;
+            }
+            differences.add(new ApplicationDriftResponse(
+                application,
+                status,
+                inSource != null ? inSource.getVersion() : null,
+                inSource != null ? inSource.getDeploymentDate() : null,
+                inTarget != null ? inTarget.getVersion() : null,
+                inTarget != null ? inTarget.getDeploymentDate() : null
+            ));
+        }
+
+        return new DeploymentDriftResponse(
+            new EnvironmentSummaryResponse(source.getId(), source.getName(), source.getIsProduction()),
+            new EnvironmentSummaryResponse(target.getId(), target.getName(), target.getIsProduction()),
+            summary,
+            differences,
+            LocalDateTime.now()
+        );
+    }
+
+    /**
+     * Forget idempotency keys once retries of their requests are no longer expected
+     */
+    @Scheduled(cron = "${deployment.idempotency.purge-cron:0 15 3 * * *}")
+    @Transactional
+    public void purgeIdempotencyKeys() {
+        int removed = idempotencyKeyRepository.deleteCreatedBefore(
+                LocalDateTime.now().minusDays(idempotencyRetentionDays));
+        logger.info("Purged {} deployment idempotency keys older than {} days", removed, idempotencyRetentionDays);
+    }
+
+    /**
+     * Rebuild the current deployment state from the full deployment history.
+     * Used to backfill the read table after imports or manual data fixes.
+     */
+    @Transactional
+    public MaintenanceResultResponse rebuildCurrentState() {
+        deploymentCurrentRepository.deleteAllRows();
+        int rows = deploymentCurrentRepository.insertFromHistory();
+        return new MaintenanceResultResponse("rebuild-current-state", rows, LocalDateTime.now());
+    }
+
+    /**
+     * Fold newly inserted deployments into the current-state and rollup tables
+     */
+    private void refreshReadModels(List<UUID> deploymentIds) {
+        deploymentCurrentRepository.upsertFromDeployments(deploymentIds);
+        deploymentDailyRollupRepository.incrementFromDeployments(deploymentIds);
+    }
+    
+    private void writeCsvRow(CsvWriter csvWriter, Deployment deployment) throws IOException {
+        csvWriter.writeRow(
+            deployment.getId(),
+            deployment.getApplication().getId(),
+            deployment.getApplication().getName(),
+            deployment.getApplication().getBusinessUnit().getName(),
+            deployment.getVersion().getId(),
+            deployment.getVersion().getVersionIdentifier(),
+            deployment.getEnvironment().getId(),
+            deployment.getEnvironment().getName(),
+            deployment.getEnvironment().getIsProduction(),
+            deployment.getDeploymentDate(),
+            deployment.getDeployedBy(),
+            deployment.getNotes()
+        );
+    }
+    
+    private String encodeCursor(Deployment deployment) {
+        String raw = deployment.getDeploymentDate() + "|" + deployment.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private DeploymentCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new DeploymentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+    
+    private record DeploymentCursor(LocalDateTime deploymentDate, UUID id) {
+    }
+
+    private String validateBatchItem(
+            RecordDeploymentRequest item,
+            Set<UUID> existingApplications,
+            Set<UUID> existingEnvironments,
+            Map<UUID, UUID> versionApplications,
+            LocalDateTime now) {
+        if (item == null) {
+            return "Deployment is required";
+        }
+
+        Set<ConstraintViolation<RecordDeploymentRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        if (!existingApplications.contains(item.getApplicationId())) {
+            return "Application not found with id: " + item.getApplicationId();
+        }
+        if (!versionApplications.containsKey(item.getVersionId())) {
+            return "Version not found with id: " + item.getVersionId();
+        }
+        if (!existingEnvironments.contains(item.getEnvironmentId())) {
+            return "Environment not found with id: " + item.getEnvironmentId();
+        }
+        if (!versionApplications.get(item.getVersionId()).equals(item.getApplicationId())) {
+            return "Version does not belong to the specified application";
+        }
+        if (item.getDeploymentDate().isAfter(now)) {
+            return "Deployment date cannot be in the future";
+        }
+        return null;
+    }
+
+    private String resolveIdempotencyKey(String headerKey, RecordDeploymentRequest request) {
+        String key = StringUtils.hasText(headerKey) ? headerKey : request.getIdempotencyKey();
+        if (!StringUtils.hasText(key)) {
+            return null;
+        }
+        if (key.length() > 255) {
+            throw new BadRequestException("Idempotency key must not exceed 255 characters");
+        }
+        return key;
+    }
+
+    private DeploymentResponse findRecordedByKey(String key) {
+        DeploymentResponse cached = idempotencyCache().get(key, DeploymentResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+        UUID deploymentId = idempotencyKeyRepository.findById(key)
+                .map(DeploymentIdempotencyKey::getDeploymentId)
+                .orElse(null);
+        if (deploymentId == null) {
+            return null;
+        }
+        DeploymentResponse recorded = deploymentRepository.findWithDetailsByIdIn(List.of(deploymentId)).stream()
+                .findFirst()
+                .map(this::mapToResponse)
+                .orElse(null);
+        if (recorded != null) {
+            idempotencyCache().put(key, recorded);
+        }
+        return recorded;
+    }
+
+    private Cache idempotencyCache() {
+        return cacheManager.getCache(CacheConfig.DEPLOYMENT_IDEMPOTENCY);
+    }
+
+    private Deployment newDeployment(RecordDeploymentRequest item, LocalDateTime now) {
+        Application application = new Application();
+        application.setId(item.getApplicationId());
+        Version version = new Version();
+        version.setId(item.getVersionId());
+        Environment environment = new Environment();
+        environment.setId(item.getEnvironmentId());
+
+        Deployment deployment = new Deployment();
+        deployment.setId(UUID.randomUUID());
+        deployment.setApplication(application);
+        deployment.setVersion(version);
+        deployment.setEnvironment(environment);
+        deployment.setDeploymentDate(item.getDeploymentDate());
+        deployment.setDeployedBy(item.getDeployedBy());
+        deployment.setNotes(item.getNotes());
+        deployment.setCreatedAt(now);
+        deployment.setUpdatedAt(now);
+        return deployment;
+    }
+
     private DeploymentResponse mapToResponse(Deployment deployment) {
         ApplicationSummaryResponse appSummary = new ApplicationSummaryResponse(
             deployment.getApplication().getId(),
@@ -158,32 +800,77 @@ public class DeploymentService {
         );
     }
     
-    private CurrentDeploymentStateResponse mapToCurrentStateResponse(Deployment deployment) {
+    /**
+     * Versions are ordered by release date; without one, the most recent deployment wins
+     */
+    private DriftStatus compareStates(CurrentDeploymentStateResponse source, CurrentDeploymentStateResponse target) {
+        if (source == null) {
+            return DriftStatus.MISSING_IN_SOURCE;
+        }
+        if (target == null) {
+            return DriftStatus.MISSING_IN_TARGET;
+        }
+        if (source.getVersion().getId().equals(target.getVersion().getId())) {
+            return DriftStatus.EQUAL;
+        }
+
+        LocalDate sourceRelease = source.getVersion().getReleaseDate();
+        LocalDate targetRelease = target.getVersion().getReleaseDate();
+        int comparison = sourceRelease != null && targetRelease != null && !sourceRelease.equals(targetRelease)
+                ? sourceRelease.compareTo(targetRelease)
+                : source.getDeploymentDate().compareTo(target.getDeploymentDate());
+        return comparison >= 0 ? DriftStatus.AHEAD : DriftStatus.BEHIND;
+    }
+    
+    private CurrentDeploymentStateResponse mapToStateResponse(DeploymentRepository.DeploymentStateRow row) {
+        return new CurrentDeploymentStateResponse(
+            new ApplicationSummaryResponse(
+                row.getApplicationId(),
+                row.getApplicationName(),
+                ApplicationStatus.valueOf(row.getApplicationStatus()),
+                row.getBusinessUnitName()
+            ),
+            new EnvironmentSummaryResponse(
+                row.getEnvironmentId(),
+                row.getEnvironmentName(),
+                row.getEnvironmentProduction()
+            ),
+            new VersionSummaryResponse(
+                row.getVersionId(),
+                row.getVersionIdentifier(),
+                row.getVersionReleaseDate()
+            ),
+            row.getDeploymentDate(),
+            row.getDeployedBy()
+        );
+    }
+    
+    private CurrentDeploymentStateResponse mapToCurrentStateResponse(DeploymentCurrent current) {
         ApplicationSummaryResponse appSummary = new ApplicationSummaryResponse(
-            deployment.getApplication().getId(),
-            deployment.getApplication().getName(),
-            deployment.getApplication().getStatus(),
-            deployment.getApplication().getBusinessUnit().getName()
+            current.getApplication().getId(),
+            current.getApplication().getName(),
+            current.getApplication().getStatus(),
+            current.getApplication().getBusinessUnit().getName()
         );
         
         VersionSummaryResponse versionSummary = new VersionSummaryResponse(
-            deployment.getVersion().getId(),
-            deployment.getVersion().getVersionIdentifier(),
-            deployment.getVersion().getReleaseDate()
+            current.getVersion().getId(),
+            current.getVersion().getVersionIdentifier(),
+            current.getVersion().getReleaseDate()
         );
         
         EnvironmentSummaryResponse envSummary = new EnvironmentSummaryResponse(
-            deployment.getEnvironment().getId(),
-            deployment.getEnvironment().getName(),
-            deployment.getEnvironment().getIsProduction()
+            current.getEnvironment().getId(),
+            current.getEnvironment().getName(),
+            current.getEnvironment().getIsProduction()
         );
         
         return new CurrentDeploymentStateResponse(
             appSummary,
             envSummary,
             versionSummary,
-            deployment.getDeploymentDate(),
-            deployment.getDeployedBy()
+            current.getDeploymentDate(),
+            current.getDeployedBy()
         );
     }
 }
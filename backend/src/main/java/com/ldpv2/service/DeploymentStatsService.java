@@ -0,0 +1,97 @@
+package com.ldpv2.service;
+
+import com.ldpv2.dto.response.DeploymentStatsResponse;
+import com.ldpv2.dto.response.DeploymentTrendPointResponse;
+import com.ldpv2.dto.response.MaintenanceResultResponse;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.repository.DeploymentDailyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deployment KPIs answered from the daily rollup table
+ */
+@Service
+public class DeploymentStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentStatsService.class);
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    @Autowired
+    private DeploymentDailyRollupRepository rollupRepository;
+
+    @Value("${deployment.stats.repair-days:2}")
+    private int repairDays;
+
+    public DeploymentStatsResponse getStats(LocalDate from, LocalDate to, UUID applicationId, UUID environmentId) {
+        LocalDate today = LocalDate.now();
+        LocalDate rangeTo = to != null ? to : today;
+        LocalDate rangeFrom = from != null ? from : rangeTo.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+
+        long total = rollupRepository.sumDeployments(rangeFrom, rangeTo, applicationId, environmentId, null);
+        long production = rollupRepository.sumDeployments(rangeFrom, rangeTo, applicationId, environmentId, true);
+
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long thisWeek = rollupRepository.sumDeployments(weekStart, today, applicationId, environmentId, null);
+
+        LocalDate monthStart = today.withDayOfMonth(1);
+        long productionThisMonth = rollupRepository.sumDeployments(monthStart, today, applicationId, environmentId, true);
+
+        List<DeploymentTrendPointResponse> trend = rollupRepository.findTrend(rangeFrom, rangeTo, applicationId, environmentId);
+
+        return new DeploymentStatsResponse(
+            rangeFrom,
+            rangeTo,
+            total,
+            production,
+            thisWeek,
+            productionThisMonth,
+            trend
+        );
+    }
+
+    /**
+     * Recompute the rollups of a day range from the deployment history.
+     * Used for backfills and to pick up environment production flag changes.
+     */
+    @Transactional
+    public MaintenanceResultResponse rebuildRollups(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new BadRequestException("Both start and end dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Start date must be before or equal to end date");
+        }
+
+        rollupRepository.deleteRange(from, to);
+        int rows = rollupRepository.insertRangeFromHistory(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        return new MaintenanceResultResponse("rebuild-deployment-rollups", rows, LocalDateTime.now());
+    }
+
+    /**
+     * Nightly repair of the most recent days, catching late or manual corrections
+     */
+    @Scheduled(cron = "${deployment.stats.repair-cron:0 30 2 * * *}")
+    @Transactional
+    public void repairRecentRollups() {
+        LocalDate today = LocalDate.now();
+        MaintenanceResultResponse result = rebuildRollups(today.minusDays(repairDays), today);
+        logger.info("Repaired deployment rollups for the last {} days ({} rows)", repairDays, result.getAffectedRows());
+    }
+}
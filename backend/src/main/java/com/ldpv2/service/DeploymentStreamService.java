@@ -0,0 +1,254 @@
+package com.ldpv2.service;
+
+import com.ldpv2.dto.response.DeploymentResponse;
+import com.ldpv2.event.DeploymentRecordedEvent;
+import com.ldpv2.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes newly recorded deployments to Server-Sent Events subscribers.
+ * Every subscriber has a bounded buffer drained on a dedicated pool, so a slow
+ * client never blocks the recording transaction; a client whose buffer overflows is disconnected.
+ * The pool grows up to one thread per subscriber. A socket write to a stalled client blocks its drain
+ * thread until the connector's write timeout (server.tomcat.connection-timeout) fails it; past the
+ * send timeout the subscriber already stops receiving events. Its slot is only released once that
+ * drain thread has exited, so stalled clients cannot pin more threads than there are slots.
+ * Disconnects complete the emitter on a drain thread, as emitter methods wait for a stalled write.
+ */
+@Service
+public class DeploymentStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentStreamService.class);
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Semaphore subscriberSlots;
+
+    @Value("${deployment.stream.threads:2}")
+    private int threads;
+
+    @Value("${deployment.stream.max-subscribers:200}")
+    private int maxSubscribers;
+
+    @Value("${deployment.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${deployment.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${deployment.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        // At most one drain task per subscriber; without a queue, busy threads make room for new ones
+        executor.setMaxPoolSize(maxSubscribers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("deployment-stream-");
+        executor.initialize();
+        subscriberSlots = new Semaphore(maxSubscribers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        executor.shutdown();
+    }
+
+    public SseEmitter subscribe(UUID applicationId, UUID environmentId) {
+        if (!subscriberSlots.tryAcquire()) {
+            throw new ServiceUnavailableException(
+                    "Too many deployment stream subscribers, try again later", RETRY_AFTER_SECONDS);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, applicationId, environmentId, bufferSize);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeploymentRecorded(DeploymentRecordedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            for (DeploymentResponse deployment : event.getDeployments()) {
+                if (subscriber.accepts(deployment)) {
+                    enqueue(subscriber, SseEmitter.event()
+                            .name("deployment")
+                            .id(deployment.getId().toString())
+                            .data(deployment));
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away
+     */
+    @Scheduled(fixedDelayString = "${deployment.stream.heartbeat-ms:30000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Stops delivering to subscribers whose current write has been blocked longer than the send timeout.
+     * Their drain thread completes the emitter, and releases the slot, once the write returns or times out.
+     */
+    @Scheduled(fixedDelayString = "${deployment.stream.send-timeout-ms:10000}")
+    public void dropStalledSubscribers() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long sendStartedAt = subscriber.sendStartedAt;
+            if (sendStartedAt != 0 && now - sendStartedAt > sendTimeoutMs) {
+                logger.warn("Deployment stream subscriber blocked a write for over {} ms, disconnecting", sendTimeoutMs);
+                abandon(subscriber);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            logger.warn("Deployment stream subscriber fell {} events behind, disconnecting", bufferSize);
+            disconnect(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            // No drain runs for this subscriber, so its emitter can be completed here;
+            // the error ends the response and makes the client reconnect
+            logger.warn("No deployment stream thread available, disconnecting subscriber");
+            abandon(subscriber);
+            subscriber.emitter.completeWithError(e);
+            subscriber.draining.set(false);
+            releaseSlot(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean ended = false;
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.abandoned && (event = subscriber.buffer.poll()) != null) {
+                subscriber.sendStartedAt = System.currentTimeMillis();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedAt = 0;
+            }
+            if (subscriber.abandoned) {
+                subscriber.emitter.complete();
+                ended = true;
+            }
+        } catch (Exception e) {
+            // Client disconnected, the write timed out or the emitter is already completed
+            abandon(subscriber);
+            ended = true;
+        } finally {
+            subscriber.sendStartedAt = 0;
+            subscriber.draining.set(false);
+            if (ended) {
+                // No thread works for this subscriber any more
+                releaseSlot(subscriber);
+            }
+        }
+        // Events offered, or a disconnect requested, between the last poll and resetting the flag
+        if (!ended && (!subscriber.buffer.isEmpty() || subscriber.abandoned)) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * Stop delivering to the subscriber and let a drain thread complete its emitter
+     */
+    private void disconnect(Subscriber subscriber) {
+        abandon(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * The emitter ended on its own; the slot is released now unless a drain is still running,
+     * in which case that drain releases it when it exits
+     */
+    private void close(Subscriber subscriber) {
+        abandon(subscriber);
+        if (!subscriber.draining.get()) {
+            releaseSlot(subscriber);
+        }
+    }
+
+    private void abandon(Subscriber subscriber) {
+        subscriber.abandoned = true;
+        subscriber.buffer.clear();
+        subscribers.remove(subscriber);
+    }
+
+    private void releaseSlot(Subscriber subscriber) {
+        if (subscriber.slotReleased.compareAndSet(false, true)) {
+            subscriberSlots.release();
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID applicationId;
+        private final UUID environmentId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean slotReleased = new AtomicBoolean();
+        private volatile boolean abandoned;
+        // Start of the write in progress, 0 when none
+        private volatile long sendStartedAt;
+
+        Subscriber(SseEmitter emitter, UUID applicationId, UUID environmentId, int bufferSize) {
+            this.emitter = emitter;
+            this.applicationId = applicationId;
+            this.environmentId = environmentId;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean accepts(DeploymentResponse deployment) {
+            return (applicationId == null || applicationId.equals(deployment.getApplication().getId()))
+                    && (environmentId == null || environmentId.equals(deployment.getEnvironment().getId()));
+        }
+    }
+}
@@ -6,10 +6,13 @@ import com.ldpv2.dto.request.UpdateEnvironmentRequest;
 import com.ldpv2.dto.response.EnvironmentResponse;
 import com.ldpv2.exception.BadRequestException;
 import com.ldpv2.exception.ResourceNotFoundException;
+import com.ldpv2.repository.CollectionVersionProjection;
 import com.ldpv2.repository.EnvironmentRepository;
+import com.ldpv2.util.HttpCaching;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -73,10 +76,22 @@ public class EnvironmentService {
         return mapToResponse(environment);
     }
 
+    /**
+     * Entity tag of the whole collection; changes whenever a row is added, updated or deleted
+     */
+    public String getCollectionETag() {
+        CollectionVersionProjection version = environmentRepository.findCollectionVersion();
+        return HttpCaching.etag("environments", version.getCount(), version.getLastModified());
+    }
+
     public Page<EnvironmentResponse> findAll(Pageable pageable) {
         return environmentRepository.findAll(pageable).map(this::mapToResponse);
     }
 
+    public Slice<EnvironmentResponse> findAllSlice(Pageable pageable) {
+        return environmentRepository.findAllBy(pageable).map(this::mapToResponse);
+    }
+
     public Page<EnvironmentResponse> search(String query, Pageable pageable) {
         return environmentRepository.findByNameContainingIgnoreCase(query, pageable)
                 .map(this::mapToResponse);
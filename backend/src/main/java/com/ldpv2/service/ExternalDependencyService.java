@@ -13,21 +13,54 @@ import com.ldpv2.exception.ResourceNotFoundException;
 import com.ldpv2.repository.ApplicationRepository;
 import com.ldpv2.repository.DependencyTypeRepository;
 import com.ldpv2.repository.ExternalDependencyRepository;
+import com.ldpv2.repository.SparseFieldRepository;
+import com.ldpv2.util.FieldSelection;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class ExternalDependencyService {
 
+    /**
+     * ExternalDependencyResponse fields available to sparse fieldsets, mapped to entity attributes.
+     * The computed isActive, daysUntilExpiration and status are not offered.
+     */
+    private static final Map<String, String> SPARSE_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SPARSE_FIELDS.put("id", "id");
+        SPARSE_FIELDS.put("application.id", "application.id");
+        SPARSE_FIELDS.put("application.name", "application.name");
+        SPARSE_FIELDS.put("application.status", "application.status");
+        SPARSE_FIELDS.put("application.businessUnitName", "application.businessUnit.name");
+        SPARSE_FIELDS.put("dependencyType.id", "dependencyType.id");
+        SPARSE_FIELDS.put("dependencyType.typeName", "dependencyType.typeName");
+        SPARSE_FIELDS.put("dependencyType.isCustom", "dependencyType.isCustom");
+        SPARSE_FIELDS.put("name", "name");
+        SPARSE_FIELDS.put("description", "description");
+        SPARSE_FIELDS.put("technicalDocumentation", "technicalDocumentation");
+        SPARSE_FIELDS.put("validityStartDate", "validityStartDate");
+        SPARSE_FIELDS.put("validityEndDate", "validityEndDate");
+        SPARSE_FIELDS.put("createdAt", "createdAt");
+        SPARSE_FIELDS.put("updatedAt", "updatedAt");
+    }
+
     @Autowired
     private ExternalDependencyRepository externalDependencyRepository;
     
@@ -37,6 +70,9 @@ public class ExternalDependencyService {
     @Autowired
     private DependencyTypeRepository dependencyTypeRepository;
 
+    @Autowired
+    private SparseFieldRepository sparseFieldRepository;
+
     @Transactional
     public ExternalDependencyResponse create(UUID applicationId, CreateExternalDependencyRequest request) {
         Application application = applicationRepository.findById(applicationId)
@@ -127,6 +163,73 @@ public class ExternalDependencyService {
         return externalDependencyRepository.findAll(pageable).map(this::mapToResponse);
     }
 
+    public Slice<ExternalDependencyResponse> findAllSlice(Pageable pageable) {
+        return externalDependencyRepository.findAllBy(pageable).map(this::mapToResponse);
+    }
+
+    public Slice<ExternalDependencyResponse> searchSlice(
+            UUID applicationId,
+            UUID dependencyTypeId,
+            String status,
+            Pageable pageable) {
+        
+        LocalDate now = LocalDate.now();
+        LocalDate expiringDate = now.plusDays(30);
+        
+        return externalDependencyRepository.searchSlice(
+                applicationId, dependencyTypeId, status, now, expiringDate, pageable)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Same filters as {@link #search}, selecting only the requested fields
+     */
+    public Slice<Map<String, Object>> findSparse(
+            String fields,
+            UUID applicationId,
+            UUID dependencyTypeId,
+            String status,
+            Pageable pageable,
+            boolean count) {
+        FieldSelection selection = FieldSelection.parse(fields, SPARSE_FIELDS);
+        LocalDate now = LocalDate.now();
+        LocalDate expiringDate = now.plusDays(30);
+        
+        Specification<ExternalDependency> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (applicationId != null) {
+                predicates.add(cb.equal(root.get("application").get("id"), applicationId));
+            }
+            if (dependencyTypeId != null) {
+                predicates.add(cb.equal(root.get("dependencyType").get("id"), dependencyTypeId));
+            }
+            if (status != null) {
+                Path<LocalDate> start = root.get("validityStartDate");
+                Path<LocalDate> end = root.get("validityEndDate");
+                switch (status) {
+                    case "ACTIVE":
+                        predicates.add(cb.or(cb.isNull(end), cb.greaterThanOrEqualTo(end, now)));
+                        predicates.add(cb.or(cb.isNull(start), cb.lessThanOrEqualTo(start, now)));
+                        break;
+                    case "EXPIRING":
+                        predicates.add(cb.between(end, now, expiringDate));
+                        break;
+                    case "EXPIRED":
+                        predicates.add(cb.lessThan(end, now));
+                        break;
+                    case "NOT_YET_VALID":
+                        predicates.add(cb.greaterThan(start, now));
+                        break;
+                    default:
+                        // Matches nothing, like the regular search
+                        predicates.add(cb.disjunction());
+                }
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return sparseFieldRepository.find(ExternalDependency.class, selection, filter, pageable, count);
+    }
+
     public Page<ExternalDependencyResponse> search(
             UUID applicationId,
             UUID dependencyTypeId,
@@ -0,0 +1,58 @@
+package com.ldpv2.service;
+
+import com.ldpv2.domain.enums.LifecycleRiskType;
+import com.ldpv2.dto.response.LifecycleRiskResponse;
+import com.ldpv2.dto.response.MaintenanceResultResponse;
+import com.ldpv2.repository.LifecycleRiskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maintains and serves the precomputed lifecycle risk report: applications whose currently
+ * deployed version is past its end of life, or which are themselves past their end of support
+ */
+@Service
+public class LifecycleRiskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LifecycleRiskService.class);
+
+    @Autowired
+    private LifecycleRiskRepository lifecycleRiskRepository;
+
+    public Page<LifecycleRiskResponse> findRisks(Boolean production, LifecycleRiskType riskType,
+                                                 UUID environmentId, UUID applicationId, Pageable pageable) {
+        return lifecycleRiskRepository.findRisks(production, riskType, environmentId, applicationId, pageable);
+    }
+
+    /**
+     * Rebuild the whole report from the current deployment state.
+     * Runs as a set-based delete and insert in one transaction, so readers keep seeing
+     * the previous report until the new one is committed.
+     */
+    @Transactional
+    public MaintenanceResultResponse refreshRisks() {
+        lifecycleRiskRepository.deleteAllRisks();
+        int rows = lifecycleRiskRepository.insertFromCurrentState(LocalDate.now());
+        return new MaintenanceResultResponse("refresh-lifecycle-risks", rows, LocalDateTime.now());
+    }
+
+    /**
+     * Transactional itself: the call to refreshRisks() below does not go through the proxy
+     */
+    @Scheduled(cron = "${lifecycle.risks.refresh-cron:0 15 * * * *}")
+    @Transactional
+    public void scheduledRefresh() {
+        MaintenanceResultResponse result = refreshRisks();
+        logger.info("Refreshed lifecycle risks ({} rows)", result.getAffectedRows());
+    }
+}
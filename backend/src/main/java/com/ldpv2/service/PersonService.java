@@ -1,18 +1,25 @@
 package com.ldpv2.service;
 
+import com.ldpv2.config.CacheConfig;
 import com.ldpv2.domain.entity.Person;
 import com.ldpv2.dto.request.CreatePersonRequest;
 import com.ldpv2.dto.request.UpdatePersonRequest;
+import com.ldpv2.dto.response.PersonApplicationResponse;
 import com.ldpv2.dto.response.PersonResponse;
 import com.ldpv2.exception.BadRequestException;
 import com.ldpv2.exception.ResourceNotFoundException;
+import com.ldpv2.repository.ContactPersonRepository;
 import com.ldpv2.repository.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -21,6 +28,9 @@ public class PersonService {
     @Autowired
     private PersonRepository personRepository;
 
+    @Autowired
+    private ContactPersonRepository contactPersonRepository;
+
     @Transactional
     public PersonResponse create(CreatePersonRequest request) {
         if (personRepository.existsByEmail(request.getEmail())) {
@@ -80,7 +90,27 @@ public class PersonService {
         return personRepository.findByName(name, pageable).map(this::mapToResponse);
     }
 
+    public Slice<PersonResponse> findAllSlice(Pageable pageable) {
+        return personRepository.findAllBy(pageable).map(this::mapToResponse);
+    }
+
+    public Slice<PersonResponse> searchSlice(String name, Pageable pageable) {
+        return personRepository.findSliceByName(name, pageable).map(this::mapToResponse);
+    }
+
+    /**
+     * Applications the person is a contact for and the role held, read with a single join
+     */
+    @Cacheable(cacheNames = CacheConfig.PERSON_APPLICATIONS, key = "#personId")
+    public List<PersonApplicationResponse> findApplications(UUID personId) {
+        if (!personRepository.existsById(personId)) {
+            throw new ResourceNotFoundException("Person not found with id: " + personId);
+        }
+        return contactPersonRepository.findApplicationsByPersonId(personId);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PERSON_APPLICATIONS, allEntries = true)
     public void delete(UUID id) {
         if (!personRepository.existsById(id)) {
             throw new ResourceNotFoundException("Person not found with id: " + id);
@@ -0,0 +1,84 @@
+package com.ldpv2.service;
+
+import com.ldpv2.config.CacheConfig;
+import com.ldpv2.domain.enums.SuggestionType;
+import com.ldpv2.dto.response.SuggestResponse;
+import com.ldpv2.dto.response.SuggestionResponse;
+import com.ldpv2.exception.BadRequestException;
+import com.ldpv2.repository.ApplicationRepository;
+import com.ldpv2.repository.BusinessUnitRepository;
+import com.ldpv2.repository.PersonRepository;
+import com.ldpv2.repository.SuggestionProjection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead suggestions for the UI pickers: top matches per entity type, without page counts
+ */
+@Service
+public class SuggestService {
+
+    /** Queries up to this length are cached; they are the most frequent and the least selective */
+    public static final int CACHEABLE_QUERY_LENGTH = 3;
+
+    public static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private BusinessUnitRepository businessUnitRepository;
+
+    @Cacheable(cacheNames = CacheConfig.SUGGESTIONS,
+               key = "{#query.trim().toLowerCase(), #limit, #types}",
+               condition = "#query.trim().length() <= T(com.ldpv2.service.SuggestService).CACHEABLE_QUERY_LENGTH")
+    public SuggestResponse suggest(String query, int limit, Set<SuggestionType> types) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (term.isEmpty()) {
+            throw new BadRequestException("Query must not be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        String escaped = escapeLike(term);
+        String prefix = escaped + "%";
+        // Trigrams only narrow a contains-match from three characters on; shorter input matches prefixes
+        String pattern = term.length() < 3 ? prefix : "%" + escaped + "%";
+
+        List<SuggestionResponse> applications = includes(types, SuggestionType.APPLICATION)
+                ? map(SuggestionType.APPLICATION, applicationRepository.suggest(pattern, prefix, term, limit))
+                : List.of();
+        List<SuggestionResponse> persons = includes(types, SuggestionType.PERSON)
+                ? map(SuggestionType.PERSON, personRepository.suggest(pattern, prefix, term, limit))
+                : List.of();
+        List<SuggestionResponse> businessUnits = includes(types, SuggestionType.BUSINESS_UNIT)
+                ? map(SuggestionType.BUSINESS_UNIT, businessUnitRepository.suggest(pattern, prefix, term, limit))
+                : List.of();
+
+        return new SuggestResponse(query.trim(), applications, persons, businessUnits);
+    }
+
+    private boolean includes(Set<SuggestionType> types, SuggestionType type) {
+        return types == null || types.isEmpty() || types.contains(type);
+    }
+
+    private List<SuggestionResponse> map(SuggestionType type, List<SuggestionProjection> rows) {
+        return rows.stream()
+                .map(row -> new SuggestionResponse(type, row.getId(), row.getLabel(), row.getDetail()))
+                .collect(Collectors.toList());
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
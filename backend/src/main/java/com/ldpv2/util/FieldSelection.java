@@ -0,0 +1,78 @@
+package com.ldpv2.util;
+
+import com.ldpv2.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields requested through a {@code fields=} parameter, resolved against the fields a list endpoint offers.
+ * Field names follow the regular JSON representation; dotted names are nested objects, and naming
+ * the object alone (e.g. {@code application}) selects all of its fields.
+ */
+public class FieldSelection {
+
+    /** Response field name to entity attribute path, in output order */
+    private final Map<String, String> paths;
+
+    private FieldSelection(Map<String, String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @param fields    comma separated field names as sent by the client
+     * @param available response field name to entity attribute path
+     */
+    public static FieldSelection parse(String fields, Map<String, String> available) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (available.containsKey(field)) {
+                paths.put(field, available.get(field));
+                continue;
+            }
+            boolean matched = false;
+            for (Map.Entry<String, String> entry : available.entrySet()) {
+                if (entry.getKey().startsWith(field + ".")) {
+                    paths.put(entry.getKey(), entry.getValue());
+                    matched = true;
+                }
+            }
+            if (!matched) {
+                throw new BadRequestException("Unknown field: " + field + ". Available fields: " 
+                        + String.join(", ", available.keySet()));
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new BadRequestException("At least one field is required");
+        }
+        return new FieldSelection(paths);
+    }
+
+    public List<String> getAttributePaths() {
+        return new ArrayList<>(paths.values());
+    }
+
+    /**
+     * Build the JSON object of one row, values being in the order of {@link #getAttributePaths()}
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> toJson(Object[] values) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        int i = 0;
+        for (String field : paths.keySet()) {
+            Map<String, Object> target = json;
+            String[] parts = field.split("\\.");
+            for (int p = 0; p < parts.length - 1; p++) {
+                target = (Map<String, Object>) target.computeIfAbsent(parts[p], key -> new LinkedHashMap<>());
+            }
+            target.put(parts[parts.length - 1], values[i++]);
+        }
+        return json;
+    }
+}
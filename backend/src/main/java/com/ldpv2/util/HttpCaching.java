@@ -0,0 +1,71 @@
+package com.ldpv2.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for conditional GET: entity tags and Last-Modified values derived from audit timestamps
+ */
+public final class HttpCaching {
+
+    /**
+     * Responses may be stored by the client but must be revalidated before reuse.
+     * Set explicitly so Spring Security does not replace it with no-store.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Strong entity tag over everything the representation depends on
+     */
+    public static String etag(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Audit timestamps are stored in server local time
+     */
+    public static Instant lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /**
+     * 200 with an ETag and a Last-Modified derived from {@code updatedAt}. Spring answers 304 itself
+     * when If-None-Match / If-Modified-Since match; pass a null {@code updatedAt} when the
+     * representation depends on more than that timestamp, so only the ETag is used.
+     */
+    public static <T> ResponseEntity<T> okWithValidators(T body, String etag, LocalDateTime updatedAt) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE);
+        if (updatedAt != null) {
+            builder.lastModified(lastModified(updatedAt));
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Conditional check for a collection, run before its page query; sets the ETag header.
+     * Collections get no Last-Modified: deletions do not advance the latest updatedAt.
+     */
+    public static boolean isNotModified(WebRequest request, String collectionEtag) {
+        return request.checkNotModified(collectionEtag);
+    }
+
+    public static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+}
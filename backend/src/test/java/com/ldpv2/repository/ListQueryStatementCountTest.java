@@ -0,0 +1,249 @@
+package com.ldpv2.repository;
+
+import com.ldpv2.domain.entity.Application;
+import com.ldpv2.domain.entity.BusinessUnit;
+import com.ldpv2.domain.entity.DependencyType;
+import com.ldpv2.domain.entity.Deployment;
+import com.ldpv2.domain.entity.Environment;
+import com.ldpv2.domain.entity.ExternalDependency;
+import com.ldpv2.domain.entity.Version;
+import com.ldpv2.domain.enums.ApplicationStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements behind the list endpoints: each page must be built
+ * from its select (plus the count query for a {@link Page}), with no lazy load per row.
+ * The associations read here are the ones the services' mapToResponse methods read.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ListQueryStatementCountTest {
+
+    private static final int ROWS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DeploymentRepository deploymentRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ExternalDependencyRepository externalDependencyRepository;
+
+    @Autowired
+    private VersionRepository versionRepository;
+
+    private Statistics statistics;
+
+    private Application versionedApplication;
+
+    @BeforeEach
+    void setUp() {
+        List<BusinessUnit> businessUnits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            businessUnits.add(entityManager.persist(new BusinessUnit("Statement BU " + i, null)));
+        }
+        List<Environment> environments = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            environments.add(entityManager.persist(new Environment("STMT-ENV-" + i, null, i == 1, i)));
+        }
+        List<DependencyType> dependencyTypes = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            dependencyTypes.add(entityManager.persist(new DependencyType("Statement type " + i, null, true)));
+        }
+
+        for (int i = 0; i < ROWS; i++) {
+            Application application = new Application();
+            application.setName("Statement app " + i);
+            application.setStatus(ApplicationStatus.IN_SERVICE);
+            application.setBusinessUnit(businessUnits.get(i % businessUnits.size()));
+            entityManager.persist(application);
+
+            Version version = new Version();
+            version.setApplication(application);
+            version.setVersionIdentifier("1." + i);
+            version.setReleaseDate(LocalDate.now().minusDays(i));
+            entityManager.persist(version);
+
+            Deployment deployment = new Deployment();
+            deployment.setApplication(application);
+            deployment.setVersion(version);
+            deployment.setEnvironment(environments.get(i % environments.size()));
+            deployment.setDeploymentDate(LocalDateTime.now().minusHours(i));
+            entityManager.persist(deployment);
+
+            ExternalDependency dependency = new ExternalDependency();
+            dependency.setApplication(application);
+            dependency.setDependencyType(dependencyTypes.get(i % dependencyTypes.size()));
+            dependency.setName("Statement dependency " + i);
+            entityManager.persist(dependency);
+
+            if (i == 0) {
+                versionedApplication = application;
+            }
+        }
+        for (int i = 0; i < ROWS; i++) {
+            Version version = new Version();
+            version.setApplication(versionedApplication);
+            version.setVersionIdentifier("2." + i);
+            version.setReleaseDate(LocalDate.now().minusDays(ROWS + i));
+            entityManager.persist(version);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void deploymentPageTakesSelectAndCount() {
+        Page<Deployment> page = deploymentRepository.findAll(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("deploymentDate").descending()));
+        page.forEach(this::readDeployment);
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void deploymentSearchPageTakesSelectAndCount() {
+        Page<Deployment> page = deploymentRepository.search(null, null, null,
+                LocalDateTime.now().minusDays(2), null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by("deploymentDate").descending()));
+        page.forEach(this::readDeployment);
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void applicationPageTakesSelectAndCount() {
+        Page<Application> page = applicationRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+        page.forEach(application -> application.getBusinessUnit().getName());
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void applicationSearchPageTakesSelectAndCount() {
+        Page<Application> page = applicationRepository.search(null, null, "Statement app",
+                PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+        page.forEach(application -> application.getBusinessUnit().getName());
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dependencyPageTakesSelectAndCount() {
+        Page<ExternalDependency> page = externalDependencyRepository.findAll(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+        page.forEach(this::readDependency);
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dependencySearchPageTakesSelectAndCount() {
+        LocalDate now = LocalDate.now();
+        Page<ExternalDependency> page = externalDependencyRepository.search(null, null, "ACTIVE",
+                now, now.plusDays(30), PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+        page.forEach(this::readDependency);
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void versionPageTakesSelectAndCount() {
+        Page<Version> page = versionRepository.findByApplicationId(versionedApplication.getId(),
+                PageRequest.of(0, PAGE_SIZE, Sort.by("releaseDate").descending()));
+        page.forEach(version -> version.getApplication().getName());
+
+        assertThat(page.getNumberOfElements()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void latestVersionTakesOneStatement() {
+        Optional<Version> latest = versionRepository.findLatestByApplicationId(versionedApplication.getId());
+        latest.ifPresent(version -> version.getApplication().getName());
+
+        assertThat(latest).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cursorPageTakesOneStatement() {
+        List<Deployment> first = deploymentRepository.searchFirst(null, null, null, null, null, Limit.of(PAGE_SIZE));
+        first.forEach(this::readDeployment);
+
+        assertThat(first).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        Deployment last = first.get(first.size() - 1);
+        List<Deployment> next = deploymentRepository.searchAfter(null, null, null, null, null,
+                last.getDeploymentDate(), last.getId(), Limit.of(PAGE_SIZE));
+        next.forEach(this::readDeployment);
+
+        assertThat(next).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void readDeployment(Deployment deployment) {
+        deployment.getApplication().getBusinessUnit().getName();
+        deployment.getVersion().getVersionIdentifier();
+        deployment.getEnvironment().getName();
+    }
+
+    private void readDependency(ExternalDependency dependency) {
+        dependency.getApplication().getBusinessUnit().getName();
+        dependency.getDependencyType().getTypeName();
+    }
+}
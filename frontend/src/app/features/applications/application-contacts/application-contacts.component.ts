@@ -1,6 +1,7 @@
-import { Component, Input, OnInit } from '@angular/core';
+import { Component, Input, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
+import { debounceTime, Subject, Subscription } from 'rxjs';
 import { ApplicationService } from '../application.service';
 import { ContactService } from '../../contacts/contact.service';
 import { ApplicationContactResponse } from '../../../shared/models/application.model';
@@ -13,7 +14,7 @@ import { ContactRole } from '../../../shared/models/contact.model';
   templateUrl: './application-contacts.component.html',
   styleUrls: ['./application-contacts.component.scss']
 })
-export class ApplicationContactsComponent implements OnInit {
+export class ApplicationContactsComponent implements OnInit, OnDestroy {
   @Input() applicationId!: string;
   @Input() applicationName!: string;
 
@@ -24,12 +25,24 @@ export class ApplicationContactsComponent implements OnInit {
   
   showAddDialog = false;
   selectedContactRole = '';
+  contactSearch = '';
   availableContacts: any[] = [];
+  // The picker pages through contacts filtered on the server
+  contactPage = 0;
+  readonly contactPageSize = 20;
+  hasMoreContacts = false;
+  loadingAvailableContacts = false;
+  private contactSearchSubject = new Subject<string>();
+  private availableContactsRequest?: Subscription;
 
   constructor(
     private applicationService: ApplicationService,
     private contactService: ContactService
-  ) {}
+  ) {
+    this.contactSearchSubject.pipe(
+      debounceTime(300)
+    ).subscribe(() => this.loadAvailableContacts());
+  }
 
   ngOnInit(): void {
     if (this.applicationId) {
@@ -38,6 +51,11 @@ export class ApplicationContactsComponent implements OnInit {
     }
   }
 
+  ngOnDestroy(): void {
+    this.contactSearchSubject.complete();
+    this.availableContactsRequest?.unsubscribe();
+  }
+
   loadContacts(): void {
     this.loading = true;
     this.applicationService.getApplicationContacts(this.applicationId).subscribe({
@@ -65,23 +83,44 @@ export class ApplicationContactsComponent implements OnInit {
 
   openAddDialog(): void {
     this.showAddDialog = true;
-    this.loadAllContacts();
+    this.loadAvailableContacts();
   }
 
   closeAddDialog(): void {
     this.showAddDialog = false;
     this.selectedContactRole = '';
+    this.contactSearch = '';
+    this.availableContacts = [];
+    this.availableContactsRequest?.unsubscribe();
   }
 
-  loadAllContacts(): void {
-    this.contactService.getContacts().subscribe({
-      next: (contacts) => {
-        this.availableContacts = contacts.filter(c => 
-          !this.contacts.some(ac => ac.contact.id === c.id)
-        );
+  onContactRoleChange(): void {
+    this.loadAvailableContacts();
+  }
+
+  onContactSearchChange(query: string): void {
+    this.contactSearch = query;
+    this.contactSearchSubject.next(query);
+  }
+
+  loadAvailableContacts(append: boolean = false): void {
+    this.contactPage = append ? this.contactPage + 1 : 0;
+    this.loadingAvailableContacts = true;
+    // A newer filter supersedes the pending request
+    this.availableContactsRequest?.unsubscribe();
+    this.availableContactsRequest = this.contactService.getContacts(this.contactPage, this.contactPageSize, {
+      contactRoleId: this.selectedContactRole || undefined,
+      name: this.contactSearch,
+      excludeApplicationId: this.applicationId
+    }).subscribe({
+      next: (page) => {
+        this.availableContacts = append ? [...this.availableContacts, ...page.content] : page.content;
+        this.hasMoreContacts = !page.last;
+        this.loadingAvailableContacts = false;
       },
       error: (err) => {
         console.error('Failed to load contacts', err);
+        this.loadingAvailableContacts = false;
       }
     });
   }
@@ -118,13 +157,4 @@ export class ApplicationContactsComponent implements OnInit {
     }
     return 'No primary contact';
   }
-
-  getFilteredContacts(): any[] {
-    if (!this.selectedContactRole) {
-      return this.availableContacts;
-    }
-    return this.availableContacts.filter(c => 
-      c.contactRole.id === this.selectedContactRole
-    );
-  }
 }
@@ -3,6 +3,7 @@ import { CommonModule } from '@angular/common';
 import { Router } from '@angular/router';
 import { ContactService } from '../contact.service';
 import { Contact } from '../../../shared/models/contact.model';
+import { Page } from '../../../shared/models/environment.model';
 
 @Component({
   selector: 'app-contact-list',
@@ -16,6 +17,11 @@ export class ContactListComponent implements OnInit {
   loading = false;
   error = '';
 
+  page = 0;
+  size = 20;
+  totalElements = 0;
+  totalPages = 0;
+
   constructor(
     private contactService: ContactService,
     private router: Router
@@ -27,9 +33,11 @@ export class ContactListComponent implements OnInit {
 
   loadContacts(): void {
     this.loading = true;
-    this.contactService.getContacts().subscribe({
-      next: (contacts) => {
-        this.contacts = contacts;
+    this.contactService.getContacts(this.page, this.size).subscribe({
+      next: (data: Page<Contact>) => {
+        this.contacts = data.content;
+        this.totalElements = data.totalElements;
+        this.totalPages = data.totalPages;
         this.loading = false;
       },
       error: (err) => {
@@ -71,4 +79,18 @@ export class ContactListComponent implements OnInit {
   getPersonCount(contact: Contact): number {
     return contact.persons.length;
   }
+
+  nextPage(): void {
+    if (this.page < this.totalPages - 1) {
+      this.page++;
+      this.loadContacts();
+    }
+  }
+
+  previousPage(): void {
+    if (this.page > 0) {
+      this.page--;
+      this.loadContacts();
+    }
+  }
 }
@@ -2,6 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Contact, ContactRole, CreateContactRequest, CreateContactRoleRequest } from '../../shared/models/contact.model';
+import { Page } from '../../shared/models/environment.model';
 
 @Injectable({
   providedIn: 'root'
@@ -22,8 +23,26 @@ export class ContactService {
   }
 
   // Contacts
-  getContacts(): Observable<Contact[]> {
-    return this.http.get<Contact[]>(this.CONTACT_URL);
+  getContacts(
+    page: number = 0,
+    size: number = 20,
+    filters: { contactRoleId?: string; name?: string; excludeApplicationId?: string } = {}
+  ): Observable<Page<Contact>> {
+    let params = new HttpParams()
+      .set('page', page.toString())
+      .set('size', size.toString());
+
+    if (filters.contactRoleId) {
+      params = params.set('contactRoleId', filters.contactRoleId);
+    }
+    if (filters.name && filters.name.trim()) {
+      params = params.set('name', filters.name.trim());
+    }
+    if (filters.excludeApplicationId) {
+      params = params.set('excludeApplicationId', filters.excludeApplicationId);
+    }
+
+    return this.http.get<Page<Contact>>(this.CONTACT_URL, { params });
   }
 
   getContact(id: string): Observable<Contact> {